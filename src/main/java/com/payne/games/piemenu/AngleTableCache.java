@@ -0,0 +1,99 @@
+package com.payne.games.piemenu;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Keeps the unit vectors pointing at the middle of each slice, for the most
+ * recently used configurations of amount of children, offset and degrees
+ * drawn. All the widgets share the same tables: a layout with a common
+ * configuration thus never computes a sine or a cosine.<br>
+ * The amount of tables kept is bounded: the least recently used one is
+ * forgotten when a new one is needed.
+ */
+final class AngleTableCache {
+
+    /** The maximal amount of tables kept at any time. */
+    static final int MAX_TABLES = 32;
+
+    private static final Map<Key, float[]> tables = new LinkedHashMap<Key, float[]>(MAX_TABLES, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, float[]> eldest) {
+            return size() > MAX_TABLES;
+        }
+    };
+
+    /* For internal use (optimization). */
+    private static final Key lookup = new Key();
+
+
+    private AngleTableCache() {
+    }
+
+
+    /**
+     * @param amount the amount of children.
+     * @param startDegreesOffset the angle at which the first slice starts.
+     * @param totalDegrees the angle spanned by all the slices.
+     * @return the cosine and the sine (one after the other) of the angle at
+     *         the middle of each slice. The array must not be modified.
+     */
+    static float[] obtain(int amount, float startDegreesOffset, float totalDegrees) {
+        lookup.set(amount, startDegreesOffset, totalDegrees);
+        float[] table = tables.get(lookup);
+        if(table == null) {
+            table = new float[2 * amount];
+            double degreesPerChild = (double)totalDegrees / amount;
+            for(int i = 0; i < amount; i++) {
+                double radians = Math.toRadians(degreesPerChild * (i + .5) + startDegreesOffset);
+                table[2*i]     = (float)Math.cos(radians);
+                table[2*i + 1] = (float)Math.sin(radians);
+            }
+            tables.put(new Key().set(amount, startDegreesOffset, totalDegrees), table);
+        }
+        return table;
+    }
+
+    /** Forgets about all the tables. */
+    static void clear() {
+        tables.clear();
+    }
+
+    /** @return the amount of tables currently kept. */
+    static int size() {
+        return tables.size();
+    }
+
+
+    private static final class Key {
+        private int amount;
+        private float startDegreesOffset;
+        private float totalDegrees;
+
+        Key set(int amount, float startDegreesOffset, float totalDegrees) {
+            this.amount = amount;
+            this.startDegreesOffset = startDegreesOffset;
+            this.totalDegrees = totalDegrees;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Key))
+                return false;
+            Key other = (Key)o;
+            return amount == other.amount
+                    && Float.floatToIntBits(startDegreesOffset) == Float.floatToIntBits(other.startDegreesOffset)
+                    && Float.floatToIntBits(totalDegrees) == Float.floatToIntBits(other.totalDegrees);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = amount;
+            hash = 31*hash + Float.floatToIntBits(startDegreesOffset);
+            hash = 31*hash + Float.floatToIntBits(totalDegrees);
+            return hash;
+        }
+    }
+}
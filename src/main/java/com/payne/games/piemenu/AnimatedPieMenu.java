@@ -287,6 +287,11 @@ public class AnimatedPieMenu extends PieMenu implements IAnimatedPieWidget {
         myDraw(batch, parentAlpha);
     }
 
+    @Override
+    protected float getDegreesToDraw() {
+        return getCurrentAngle();
+    }
+
     @Override
     public PieWidget getSelf() {
         return this;
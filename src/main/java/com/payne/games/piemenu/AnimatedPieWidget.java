@@ -288,6 +288,11 @@ public class AnimatedPieWidget extends PieWidget implements IAnimatedPieWidget {
         myDraw(batch, parentAlpha);
     }
 
+    @Override
+    protected float getDegreesToDraw() {
+        return getCurrentAngle();
+    }
+
     @Override
     public PieWidget getSelf() {
         return this;
@@ -16,6 +16,8 @@ interface IAnimatedPieWidget extends IAnimatedRadialGroup {
      */
     default void myDraw(Batch batch, float parentAlpha) {
         getSelf().drawWithShapeDrawer(batch, parentAlpha, getCurrentAngle());
+        getSelf().drawSliceContents(batch, getSelf().totalDegreesDrawn == 0 ? parentAlpha
+                : parentAlpha * getCurrentAngle() / getSelf().totalDegreesDrawn, getCurrentAngle());
         getSelf().drawMe(batch, parentAlpha);
     }
 }
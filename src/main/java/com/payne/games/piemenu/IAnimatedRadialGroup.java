@@ -3,7 +3,6 @@ package com.payne.games.piemenu;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.utils.Align;
 import java.util.Map;
 
 
@@ -138,18 +137,14 @@ interface IAnimatedRadialGroup {
 
         boolean notAnimated = !isCurrentlyAnimated() && !getOriginalColors().isEmpty();
         float openingPercentage = getCurrentAngle() / getSelf().totalDegreesDrawn;
-        float degreesPerChild = getCurrentAngle() / getSelf().getAmountOfChildren();
 
-        for (int i = 0; i < getSelf().getAmountOfChildren(); i++) {
+        /* The angle changes on every frame of an animation: not worth caching. */
+        float[] angles = getSelf().obtainAngles(getCurrentAngle(), !isCurrentlyAnimated());
+
+        int placed = getSelf().getAmountOfPlacedChildren();
+        for (int i = 0; i < placed; i++) {
             Actor actor = getSelf().getChildren().get(i);
-            float dist = getSelf().getActorDistanceFromCenter(actor);
-            getVector2().set(dist, 0);
-            getVector2().rotate(degreesPerChild*(i + HALF) + getSelf().startDegreesOffset);
-            getSelf().modifyActor(actor, degreesPerChild, dist); // overridden by user
-            actor.setPosition(
-                    getVector2().x + getSelf().getWidth()/2,
-                    getVector2().y + getSelf().getHeight()/2,
-                    Align.center);
+            getSelf().placeActor(i, getSelf().getSliceDegrees(i, getCurrentAngle()), angles);
 
             /* Updating alpha (fade-in animation). */
             if(isCurrentlyAnimated()) {
@@ -164,6 +159,8 @@ interface IAnimatedRadialGroup {
             }
         }
 
+        getSelf().finishLayout(placed);
+
         if (notAnimated) {
             getOriginalColors().clear();
         }
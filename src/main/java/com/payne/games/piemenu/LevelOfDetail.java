@@ -0,0 +1,163 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.math.MathUtils;
+
+
+/**
+ * Determines how many straight segments are used to approximate the arcs
+ * drawn by a {@link PieWidget}, based on how big they appear on the screen.<br>
+ * A small ring thus costs a lot less vertices than a big one, while both
+ * look just as smooth.<br>
+ * Every widget uses the {@link #getDefault() default} instance unless it was
+ * given its own through {@link PieWidget#setLevelOfDetail(LevelOfDetail)}.
+ *
+ * @author Jérémi Grenier-Berthiaume (aka "payne")
+ */
+public class LevelOfDetail {
+
+    /**
+     * The instance used by every widget that wasn't given its own.
+     */
+    private static LevelOfDetail defaultLevelOfDetail = new LevelOfDetail();
+
+    /**
+     * <b>Defaults at 0.5.</b><br>
+     * The maximal distance, in pixels on the screen, between a perfect arc and
+     * the straight segments used to approximate it.
+     */
+    private float maxPixelError = .5f;
+
+    /**
+     * <b>Defaults at 8.</b><br>
+     * The minimal amount of segments used for a full circle, no matter how
+     * small it appears on the screen.
+     */
+    private int minSegments = 8;
+
+    /**
+     * <b>Defaults at 400.</b><br>
+     * The maximal amount of segments used for a full circle, no matter how
+     * big it appears on the screen.
+     */
+    private int maxSegments = 400;
+
+
+
+
+    /**
+     * See {@link LevelOfDetail} for a description.
+     */
+    public LevelOfDetail() {
+    }
+
+    /**
+     * See {@link LevelOfDetail} for a description.
+     *
+     * @param maxPixelError the {@link #maxPixelError}.
+     * @param minSegments the {@link #minSegments} used for a full circle.
+     * @param maxSegments the {@link #maxSegments} used for a full circle.
+     */
+    public LevelOfDetail(float maxPixelError, int minSegments, int maxSegments) {
+        setMaxPixelError(maxPixelError);
+        setSegmentsRange(minSegments, maxSegments);
+    }
+
+
+
+
+    /**
+     * Finds the amount of segments required to draw an arc so that it never
+     * strays from the perfect arc by more than {@link #maxPixelError} pixels.
+     *
+     * @param screenRadius the radius of the arc, in pixels on the screen.
+     * @param radians the angle spanned by the arc.
+     * @return the amount of straight segments to be used. Always at least 1.
+     */
+    public int getSegments(float screenRadius, float radians) {
+        int circleSegments = minSegments;
+        if(screenRadius > maxPixelError) {
+            float step = 2 * (float)Math.acos(1 - maxPixelError / screenRadius);
+            circleSegments = MathUtils.clamp(MathUtils.ceil(MathUtils.PI2 / step), minSegments, maxSegments);
+        }
+        return Math.max(1, MathUtils.ceil(circleSegments * Math.abs(radians) / MathUtils.PI2));
+    }
+
+
+
+
+    /*
+    =============================== GETTERS/SETTERS ============================
+     */
+
+
+    /**
+     * @return the instance used by every widget that wasn't given its own.
+     */
+    public static LevelOfDetail getDefault() {
+        return defaultLevelOfDetail;
+    }
+
+    /**
+     * Changes the instance used by every widget that wasn't given its own.
+     *
+     * @param levelOfDetail the new global instance.
+     */
+    public static void setDefault(LevelOfDetail levelOfDetail) {
+        if(levelOfDetail == null)
+            throw new IllegalArgumentException("levelOfDetail cannot be null.");
+        defaultLevelOfDetail = levelOfDetail;
+    }
+
+    /**
+     * @see #maxPixelError
+     * @return the maximal distance, in pixels, between a perfect arc and
+     *         its approximation.
+     */
+    public float getMaxPixelError() {
+        return maxPixelError;
+    }
+
+    /**
+     * @see #maxPixelError
+     * @param maxPixelError a lower value means smoother arcs, but more
+     *                      vertices. Must be bigger than 0.
+     */
+    public void setMaxPixelError(float maxPixelError) {
+        if(maxPixelError <= 0)
+            throw new IllegalArgumentException("maxPixelError must be bigger than 0.");
+        this.maxPixelError = maxPixelError;
+    }
+
+    /**
+     * @see #minSegments
+     * @return the minimal amount of segments used for a full circle.
+     */
+    public int getMinSegments() {
+        return minSegments;
+    }
+
+    /**
+     * @see #maxSegments
+     * @return the maximal amount of segments used for a full circle.
+     */
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    /**
+     * @see #minSegments
+     * @see #maxSegments
+     * @param minSegments the minimal amount of segments used for a full
+     *                    circle. Must be at least 3.
+     * @param maxSegments the maximal amount of segments used for a full
+     *                    circle. Must be at least {@code minSegments}.
+     */
+    public void setSegmentsRange(int minSegments, int maxSegments) {
+        if(minSegments < 3)
+            throw new IllegalArgumentException("minSegments must be at least 3.");
+        if(maxSegments < minSegments)
+            throw new IllegalArgumentException("maxSegments cannot be smaller than minSegments.");
+        this.minSegments = minSegments;
+        this.maxSegments = maxSegments;
+    }
+}
@@ -1,5 +1,6 @@
 package com.payne.games.piemenu;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -14,6 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Pools;
 
 
@@ -98,9 +100,28 @@ public class PieMenu extends PieWidget {
      */
     private int selectionButton = Input.Buttons.LEFT;
 
+    /**
+     * <b>Defaults to {@code false}.</b><br>
+     * Determines whether the hover and the highlight (while dragging) are
+     * resolved once per frame instead of once per input event. The
+     * {@link PieMenuListener} then only records the latest position of the
+     * pointer, and the slice under it is found during the next
+     * {@link #act(float)}: finding the slice and firing the events is then
+     * bounded by the frame rate instead of the polling rate of the mouse.<br>
+     * Pressing and releasing the {@link #selectionButton} are still processed
+     * right away.
+     */
+    private boolean inputCoalescing = false;
+
 
     /* For internal use. */
     private static Vector2 vector2 = new Vector2();
+    private boolean hoverPending, highlightPending;
+    private float hoverX, hoverY, highlightX, highlightY;
+    private int highlightPointer;
+    private final IntMap<PointerResolution> pointerResolutions = new IntMap<>();
+    private int resolutionStamp; // incremented by invalidate(), which can be called before the initializers
+    private int listenerPointer; // the pointer whose event is being processed by the PieMenuListener
 
 
 
@@ -115,6 +136,13 @@ public class PieMenu extends PieWidget {
         setTouchable(Touchable.enabled);
     }
 
+    /** Used internally by the constructors to assign the style without invalidating the widget again. */
+    private void initStyle(PieMenuStyle style) {
+        super.initStyle(style);
+        checkStyle(style);
+        this.style = style;
+    }
+
     /**
      * See {@link PieMenu} for a description.
      *
@@ -126,7 +154,7 @@ public class PieMenu extends PieWidget {
     public PieMenu(final TextureRegion whitePixel,
                    PieMenuStyle style, float preferredRadius) {
         super(whitePixel, preferredRadius);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -144,7 +172,7 @@ public class PieMenu extends PieWidget {
                    PieMenuStyle style, float preferredRadius,
                    float innerRadiusPercent) {
         super(whitePixel, preferredRadius, innerRadiusPercent);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -164,7 +192,7 @@ public class PieMenu extends PieWidget {
                    PieMenuStyle style, float preferredRadius,
                    float innerRadiusPercent, float startDegreesOffset) {
         super(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -187,7 +215,7 @@ public class PieMenu extends PieWidget {
                    PieMenuStyle style, float preferredRadius,
                    float innerRadiusPercent, float startDegreesOffset, float totalDegreesDrawn) {
         super(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -201,7 +229,7 @@ public class PieMenu extends PieWidget {
     public PieMenu(final TextureRegion whitePixel,
                    Skin skin, float preferredRadius) {
         super(whitePixel, preferredRadius);
-        setStyle(skin.get(PieMenuStyle.class));
+        initStyle(skin.get(PieMenuStyle.class));
     }
 
     /**
@@ -219,7 +247,7 @@ public class PieMenu extends PieWidget {
                    Skin skin, float preferredRadius,
                    float innerRadiusPercent) {
         super(whitePixel, preferredRadius, innerRadiusPercent);
-        setStyle(skin.get(PieMenuStyle.class));
+        initStyle(skin.get(PieMenuStyle.class));
     }
 
     /**
@@ -239,7 +267,7 @@ public class PieMenu extends PieWidget {
                    Skin skin, float preferredRadius,
                    float innerRadiusPercent, float startDegreesOffset) {
         super(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setStyle(skin.get(PieMenuStyle.class));
+        initStyle(skin.get(PieMenuStyle.class));
     }
 
     /**
@@ -262,7 +290,7 @@ public class PieMenu extends PieWidget {
                    Skin skin, float preferredRadius,
                    float innerRadiusPercent, float startDegreesOffset, float totalDegreesDrawn) {
         super(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
-        setStyle(skin.get(PieMenuStyle.class));
+        initStyle(skin.get(PieMenuStyle.class));
     }
 
     /**
@@ -277,7 +305,7 @@ public class PieMenu extends PieWidget {
     public PieMenu(final TextureRegion whitePixel,
                    Skin skin, String style, float preferredRadius) {
         super(whitePixel, preferredRadius);
-        setStyle(skin.get(style, PieMenuStyle.class));
+        initStyle(skin.get(style, PieMenuStyle.class));
     }
 
     /**
@@ -296,7 +324,7 @@ public class PieMenu extends PieWidget {
                    Skin skin, String style, float preferredRadius,
                    float innerRadiusPercent) {
         super(whitePixel, preferredRadius, innerRadiusPercent);
-        setStyle(skin.get(style, PieMenuStyle.class));
+        initStyle(skin.get(style, PieMenuStyle.class));
     }
 
     /**
@@ -317,7 +345,7 @@ public class PieMenu extends PieWidget {
                    Skin skin, String style, float preferredRadius,
                    float innerRadiusPercent, float startDegreesOffset) {
         super(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setStyle(skin.get(style, PieMenuStyle.class));
+        initStyle(skin.get(style, PieMenuStyle.class));
     }
 
     /**
@@ -341,7 +369,7 @@ public class PieMenu extends PieWidget {
                    Skin skin, String style, float preferredRadius,
                    float innerRadiusPercent, float startDegreesOffset, float totalDegreesDrawn) {
         super(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
-        setStyle(skin.get(style, PieMenuStyle.class));
+        initStyle(skin.get(style, PieMenuStyle.class));
     }
 
 
@@ -367,6 +395,7 @@ public class PieMenu extends PieWidget {
     public void resetSelection() {
         highlightedIndex = defaultIndex;
         selectedIndex = defaultIndex;
+        invalidateColors();
     }
 
     /**
@@ -377,22 +406,23 @@ public class PieMenu extends PieWidget {
      */
     public void resetHover() {
         hoveredIndex = NO_SELECTION;
+        invalidateColors();
     }
 
     @Override
     public int findChildIndexAtStage(float x, float y) {
-        stageToLocalCoordinates(vector2.set(x,y));
+        getStageToLocalTransform().applyTo(vector2.set(x,y));
         if(infiniteSelectionRange) {
             if(middleCancel)
                 return isWithinInnerRadius(vector2.x - getWidth()/2, vector2.y - getHeight()/2)
-                        ? getAmountOfChildren() // "getAmountOfChildren" is equivalent to "invalid"
-                        : findIndexFromAngle(angleAtStage(x,y));
+                        ? getAmountOfSlices() // "getAmountOfSlices" is equivalent to "invalid"
+                        : findIndexFromVector(vector2.x - getWidth()/2, vector2.y - getHeight()/2);
             else
-                return findIndexFromAngle(angleAtStage(x,y));
+                return findIndexFromVector(vector2.x - getWidth()/2, vector2.y - getHeight()/2);
         }
         return isWithinRadii(vector2.x - getWidth()/2, vector2.y - getHeight()/2)
-                ? findIndexFromAngle(angleAtStage(x,y))
-                : getAmountOfChildren(); // "getAmountOfChildren" is equivalent to "invalid"
+                ? findIndexFromVector(vector2.x - getWidth()/2, vector2.y - getHeight()/2)
+                : getAmountOfSlices(); // "getAmountOfSlices" is equivalent to "invalid"
     }
 
     /**
@@ -407,6 +437,16 @@ public class PieMenu extends PieWidget {
         return isValidIndex(index) ? index : defaultIndex;
     }
 
+    /**
+     * @return {@code true} as soon as the style defines any of the
+     *         colors of the selected, highlighted or hovered slices.
+     */
+    @Override
+    protected boolean hasStatefulColors() {
+        return style.selectedColor != null || style.downColor != null
+                || style.hoverColor != null || style.hoverSelectedColor != null;
+    }
+
     @Override
     public Color getColor(int index) {
         if(style.hoverSelectedColor != null
@@ -453,6 +493,22 @@ public class PieMenu extends PieWidget {
      */
 
 
+    /**
+     * Applies the style and all the properties that define the shape of the
+     * widget at once, with a single validation and a single invalidation.
+     *
+     * @param style defines the way the widget looks like.
+     * @see PieWidget#configure(PieWidgetStyle, float, float, float, float)
+     */
+    public void configure(PieMenuStyle style, float preferredRadius, float innerRadiusPercent,
+                          float startDegreesOffset, float totalDegreesDrawn) {
+        if(style == null)
+            throw new IllegalArgumentException("style cannot be null.");
+        checkStyle(style);
+        super.configure(style, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
+        this.style = style;
+    }
+
     /**
      * Runs checks before assigning the style to the Widget. Only a valid style
      * will pass the test.
@@ -595,6 +651,7 @@ public class PieMenu extends PieWidget {
 
         selectedIndex = newIndex;
         highlightedIndex = newIndex;
+        invalidateColors();
         if (newIndex != oldHighlightedIndex) {
             PieMenuHighlightChangeEvent highlightChangeEvent = Pools.obtain(PieMenuHighlightChangeEvent.class);
             highlightChangeEvent.newIndex = newIndex;
@@ -606,6 +663,7 @@ public class PieMenu extends PieWidget {
         if (fire(changeEvent)) {
             highlightedIndex = oldHighlightedIndex;
             selectedIndex = oldSelectedIndex;
+            invalidateColors();
         }
         Pools.free(changeEvent);
     }
@@ -619,7 +677,7 @@ public class PieMenu extends PieWidget {
      * @param y y-coordinate in the Stage.
      */
     public void selectSliceAtStage(float x, float y) {
-        selectIndex(findChildIndexAtStage(x, y));
+        selectIndex(resolvePointer(listenerPointer, x, y).getIndex());
     }
 
     /**
@@ -640,6 +698,7 @@ public class PieMenu extends PieWidget {
         if(newIndex != highlightedIndex) {
             highlightedIndex = newIndex;
             resetHover();
+            invalidateColors();
             PieMenuHighlightChangeEvent highlightChangeEvent = Pools.obtain(PieMenuHighlightChangeEvent.class);
             highlightChangeEvent.newIndex = newIndex;
             fire(highlightChangeEvent);
@@ -658,7 +717,7 @@ public class PieMenu extends PieWidget {
      * @param y y-coordinate in the stage.
      */
     public void highlightSliceAtStage(float x, float y) {
-        highlightIndex(findChildIndexAtStage(x, y));
+        highlightIndex(resolvePointer(listenerPointer, x, y).getIndex());
     }
 
     /**
@@ -678,6 +737,7 @@ public class PieMenu extends PieWidget {
         newIndex = mapIndex(newIndex);
         if(newIndex != hoveredIndex) {
             hoveredIndex = newIndex;
+            invalidateColors();
             PieMenuHoverChangeEvent hoverChangeEvent = Pools.obtain(PieMenuHoverChangeEvent.class);
             hoverChangeEvent.newIndex = newIndex;
             fire(hoverChangeEvent);
@@ -696,7 +756,154 @@ public class PieMenu extends PieWidget {
      * @param y y-coordinate in the stage.
      */
     public void hoverSliceAtStage(float x, float y) {
-        hoverIndex(findChildIndexAtStage(x, y));
+        hoverIndex(resolvePointer(listenerPointer, x, y).getIndex());
+    }
+
+    /**
+     * Finds the slice at the given coordinate, for the given pointer.<br>
+     * The result is kept for each pointer: as long as the pointer doesn't
+     * move relative to the widget, and the widget isn't
+     * {@link #invalidate() invalidated}, the same result is returned without
+     * computing anything again. The {@link PieMenuListener} relies on it
+     * (through {@link #highlightSliceAtStage(float, float)},
+     * {@link #hoverSliceAtStage(float, float)} and
+     * {@link #selectSliceAtStage(float, float)}) so that the highlight, the
+     * hover and the selection of a position share a single resolution.<br>
+     * If you override {@link #findChildIndexAtStage(float, float)} with a
+     * logic that depends on some state of your own, call
+     * {@link #invalidatePointerResolutions()} whenever that state changes.
+     *
+     * @param pointer the pointer, as given by the {@link InputEvent}.
+     *                The mouse is pointer {@code 0}.
+     * @param x x-coordinate in the Stage.
+     * @param y y-coordinate in the Stage.
+     * @return the resolution of that position. The same instance is updated
+     *         by the next calls for that pointer.
+     */
+    public PointerResolution resolvePointer(int pointer, float x, float y) {
+        PointerResolution resolution = pointerResolutions.get(pointer);
+        if(resolution == null) {
+            resolution = new PointerResolution(this);
+            pointerResolutions.put(pointer, resolution);
+        }
+        resolution.timestamp = Gdx.input == null ? 0 : Gdx.input.getCurrentEventTime(); // null when headless
+
+        getStageToLocalTransform().applyTo(vector2.set(x,y));
+        if(resolution.resolved && resolution.stamp == resolutionStamp
+                && resolution.localX == vector2.x && resolution.localY == vector2.y)
+            return resolution;
+
+        resolution.stageX = x;
+        resolution.stageY = y;
+        resolution.localX = vector2.x;
+        resolution.localY = vector2.y;
+        resolution.distanceSquared = pow2(vector2.x - getWidth()/2) + pow2(vector2.y - getHeight()/2);
+        resolution.angle = Float.NaN;
+        resolution.index = findChildIndexAtStage(x, y);
+        resolution.stamp = resolutionStamp;
+        resolution.resolved = true;
+        return resolution;
+    }
+
+    /**
+     * @param pointer the pointer, as given by the {@link InputEvent}.
+     *                The mouse is pointer {@code 0}.
+     * @return the latest resolution of the position of that pointer, or
+     *         {@code null} if it was never resolved.
+     * @see #resolvePointer(int, float, float)
+     */
+    public PointerResolution getPointerResolution(int pointer) {
+        return pointerResolutions.get(pointer);
+    }
+
+    /**
+     * Forgets about the slices found by
+     * {@link #resolvePointer(int, float, float)}: the next resolutions will
+     * call {@link #findChildIndexAtStage(float, float)} again.<br>
+     * Called automatically whenever the widget is {@link #invalidate()
+     * invalidated}, and by the setters of the flags that affect what
+     * {@link #findChildIndexAtStage(float, float)} returns.
+     */
+    protected void invalidatePointerResolutions() {
+        resolutionStamp++;
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        invalidatePointerResolutions();
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        resolvePendingInput();
+    }
+
+    /**
+     * Finds the slices to be hovered and highlighted at the latest positions
+     * recorded by the {@link PieMenuListener} since the last frame, while
+     * {@link #inputCoalescing} is enabled.<br>
+     * Called automatically by {@link #act(float)}.
+     */
+    public void resolvePendingInput() {
+        if(hoverPending) {
+            hoverPending = false;
+            hoverSliceAtStage(hoverX, hoverY);
+        }
+        if(highlightPending) {
+            highlightPending = false;
+            highlightSliceAtStage(highlightPointer, highlightX, highlightY);
+        }
+    }
+
+    /**
+     * Forgets about the positions recorded by the {@link PieMenuListener}
+     * that were not yet resolved. Used when an input is processed right away,
+     * so that an older one doesn't override it.
+     */
+    private void discardPendingInput() {
+        hoverPending = false;
+        highlightPending = false;
+    }
+
+    private void highlightSliceAtStage(int pointer, float x, float y) {
+        listenerPointer = pointer;
+        try {
+            highlightSliceAtStage(x, y);
+        } finally {
+            listenerPointer = 0;
+        }
+    }
+
+    private void selectSliceAtStage(int pointer, float x, float y) {
+        listenerPointer = pointer;
+        try {
+            selectSliceAtStage(x, y);
+        } finally {
+            listenerPointer = 0;
+        }
+    }
+
+    private void hoverSliceAtStageCoalesced(float x, float y) {
+        if(!inputCoalescing) {
+            hoverSliceAtStage(x, y);
+            return;
+        }
+        hoverX = x;
+        hoverY = y;
+        hoverPending = true;
+    }
+
+    private void highlightSliceAtStageCoalesced(int pointer, float x, float y) {
+        if(!inputCoalescing) {
+            highlightSliceAtStage(pointer, x, y);
+            return;
+        }
+        highlightPointer = pointer;
+        highlightX = x;
+        highlightY = y;
+        highlightPending = true;
     }
 
 
@@ -739,8 +946,10 @@ public class PieMenu extends PieWidget {
                 return false;
 
             boolean accepted = (button == pieMenu.getSelectionButton());
-            if(accepted)
-                pieMenu.highlightSliceAtStage(event.getStageX(), event.getStageY());
+            if(accepted) {
+                pieMenu.discardPendingInput();
+                pieMenu.highlightSliceAtStage(pointer, event.getStageX(), event.getStageY());
+            }
             return accepted;
         }
 
@@ -753,7 +962,7 @@ public class PieMenu extends PieWidget {
             if(event.getListenerActor() != pieMenu)
                 return;
 
-            pieMenu.highlightSliceAtStage(event.getStageX(), event.getStageY());
+            pieMenu.highlightSliceAtStageCoalesced(pointer, event.getStageX(), event.getStageY());
             super.touchDragged(event, x, y, pointer);
         }
 
@@ -768,7 +977,8 @@ public class PieMenu extends PieWidget {
 
             if(button != pieMenu.getSelectionButton())
                 return;
-            pieMenu.selectSliceAtStage(event.getStageX(), event.getStageY()); // todo: just use highlighted instead of finding index again?
+            pieMenu.discardPendingInput();
+            pieMenu.selectSliceAtStage(pointer, event.getStageX(), event.getStageY());
             super.touchUp(event, x, y, pointer, button);
         }
 
@@ -781,7 +991,7 @@ public class PieMenu extends PieWidget {
             if(event.getListenerActor() != pieMenu)
                 return false;
 
-            pieMenu.hoverSliceAtStage(event.getStageX(), event.getStageY());
+            pieMenu.hoverSliceAtStageCoalesced(event.getStageX(), event.getStageY());
             return true;
         }
 
@@ -795,8 +1005,10 @@ public class PieMenu extends PieWidget {
                 return;
 
             /* Reset the hover only when the mouse exits the PieMenu. */
-            if(toActor != pieMenu && (toActor == null || !(toActor.isDescendantOf(pieMenu))))
+            if(toActor != pieMenu && (toActor == null || !(toActor.isDescendantOf(pieMenu)))) {
+                pieMenu.hoverPending = false;
                 pieMenu.hoverIndex(NO_SELECTION);
+            }
             super.exit(event, x, y, pointer, toActor);
         }
     }
@@ -830,6 +1042,84 @@ public class PieMenu extends PieWidget {
         }
     }
 
+
+    /**
+     * Where a pointer is relative to a {@link PieMenu}, and which slice is
+     * there.<br>
+     * Obtained through {@link #resolvePointer(int, float, float)} or
+     * {@link #getPointerResolution(int)}. The instance is reused for the
+     * later positions of the same pointer: do not keep it.
+     */
+    public static class PointerResolution {
+        private final PieMenu pieMenu;
+        private float stageX, stageY;
+        private float localX, localY;
+        private float distanceSquared;
+        private float angle;
+        private int index;
+        private long timestamp;
+
+        /* For internal use. */
+        private int stamp;
+        private boolean resolved;
+
+        private PointerResolution(PieMenu pieMenu) {
+            this.pieMenu = pieMenu;
+        }
+
+        /**
+         * @return the x-coordinate in the Stage.
+         */
+        public float getStageX() {
+            return stageX;
+        }
+
+        /**
+         * @return the y-coordinate in the Stage.
+         */
+        public float getStageY() {
+            return stageY;
+        }
+
+        /**
+         * @return the squared distance to the center of the widget, in the
+         *         coordinates of the widget.
+         */
+        public float getDistanceSquared() {
+            return distanceSquared;
+        }
+
+        /**
+         * Only computed the first time it is needed.
+         *
+         * @see PieMenu#angleAtLocal(float, float)
+         * @return the normalized angle relative to the center of the widget.
+         */
+        public float getAngle() {
+            if(Float.isNaN(angle))
+                angle = pieMenu.angleAtLocal(localX, localY);
+            return angle;
+        }
+
+        /**
+         * @return the index of the slice at that position, as found by
+         *         {@link PieMenu#findChildIndexAtStage(float, float)}. Not
+         *         guaranteed to be valid.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the time of the latest input event at that position, as
+         *         given by {@link Input#getCurrentEventTime()}, or {@code 0}
+         *         if there is no {@link Input} (without a backend).
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
     /**
      * If the {@link ChangeListener} wasn't enough, you can add a
      * {@link PieMenuCallbacks} to be able to execute code every
@@ -945,6 +1235,7 @@ public class PieMenu extends PieWidget {
      */
     public void setInfiniteSelectionRange(boolean infiniteSelectionRange) {
         this.infiniteSelectionRange = infiniteSelectionRange;
+        invalidatePointerResolutions();
     }
 
     /**
@@ -971,6 +1262,36 @@ public class PieMenu extends PieWidget {
      */
     public void setMiddleCancel(boolean middleCancel) {
         this.middleCancel = middleCancel;
+        invalidatePointerResolutions();
+    }
+
+    @Override
+    public void setExactHitAngles(boolean exactHitAngles) {
+        super.setExactHitAngles(exactHitAngles);
+        invalidatePointerResolutions();
+    }
+
+    /**
+     * @see #inputCoalescing
+     * @return {@code true} only if the hover and the highlight are resolved
+     *         once per frame.
+     */
+    public boolean isInputCoalescing() {
+        return inputCoalescing;
+    }
+
+    /**
+     * Disabling it resolves right away the positions that were recorded
+     * since the last frame.
+     *
+     * @see #inputCoalescing
+     * @param inputCoalescing whether or not the hover and the highlight are
+     *                        resolved once per frame.
+     */
+    public void setInputCoalescing(boolean inputCoalescing) {
+        this.inputCoalescing = inputCoalescing;
+        if(!inputCoalescing)
+            resolvePendingInput();
     }
 
     /**
@@ -1001,6 +1322,7 @@ public class PieMenu extends PieWidget {
      */
     public void setSelectedIndex(int selectedIndex) {
         this.selectedIndex = selectedIndex;
+        invalidateColors();
     }
 
     /**
@@ -1059,6 +1381,7 @@ public class PieMenu extends PieWidget {
      */
     public void setHighlightedIndex(int highlightedIndex) {
         this.highlightedIndex = highlightedIndex;
+        invalidateColors();
     }
 
     /**
@@ -1083,6 +1406,7 @@ public class PieMenu extends PieWidget {
      */
     public void setHoveredIndex(int hoveredIndex) {
         this.hoveredIndex = hoveredIndex;
+        invalidateColors();
     }
 
     /**
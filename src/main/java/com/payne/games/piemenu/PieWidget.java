@@ -1,15 +1,23 @@
 package com.payne.games.piemenu;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TransformDrawable;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.viewport.Viewport;
 import space.earlygrey.shapedrawer.ShapeDrawer;
 
 
@@ -50,12 +58,93 @@ public class PieWidget extends RadialGroup {
      */
     protected boolean hitThroughInnerRadius = true;
 
+    /**
+     * Determines whether the shapes of the widget are tessellated once and
+     * then reused on every frame, or drawn with the {@link ShapeDrawer} every
+     * time the widget is drawn.<br>
+     * The tessellated shapes are only rebuilt when the radius, the
+     * {@link #innerRadiusPercent inner radius}, the {@link #startDegreesOffset},
+     * the amount of degrees drawn, the amount of children or the
+     * {@link #setStyle(PieWidgetStyle) style} change.<br>
+     * The {@link ShapeDrawer} is still used if one was provided through
+     * {@link #setShapeDrawer(ShapeDrawer)}. If you override any of the
+     * methods that only the ShapeDrawer calls
+     * ({@link #drawChild(Vector2, int, float, float)},
+     * {@link #drawChildCircumference(Vector2, float, float, float)},
+     * {@link #drawChildSeparator(Vector2, float)} (or its overload) and
+     * {@link #propagateAlpha(ShapeDrawer, Color)}), set this flag to
+     * {@code false} or override {@link #isShapeDrawerCustomized()}.
+     */
+    protected boolean geometryCached = true;
+
+    /**
+     * Determines how many segments are used to draw the arcs of this widget.
+     * If {@code null}, the {@link LevelOfDetail#getDefault() default} one
+     * is used.
+     */
+    protected LevelOfDetail levelOfDetail;
+
+    /**
+     * Determines whether the shapes of the widget are drawn by the
+     * {@link PieWidgetShader} (as a single quad whose pixels are evaluated by
+     * a fragment shader) instead of being tessellated.<br>
+     * Falls back to the tessellated shapes if the shader could not be compiled,
+     * if there are more than {@link PieWidgetShader#MAX_SLICES} children, or
+     * if the slices are not all the same (because they are
+     * {@link #isWeighted() weighted}, for example).
+     */
+    protected boolean shaderRendering = false;
+
+    /**
+     * Determines whether the shapes of the widget are rendered once into a
+     * texture, which is then drawn as a single quad on every frame.<br>
+     * Meant for widgets that rarely change: the texture is rendered again
+     * whenever the radius, the {@link #innerRadiusPercent inner radius}, the
+     * {@link #startDegreesOffset}, the amount of degrees drawn, the amount of
+     * slices, the scale at which the widget appears on the screen, the
+     * {@link #setStyle(PieWidgetStyle) style} or the colors of the slices
+     * change. Rotating the widget only rotates the quad.<br>
+     * Takes precedence over the {@link #shaderRendering} flag.<br>
+     * Not supported for widgets that are drawn into a {@code FrameBuffer}
+     * of your own. Call {@link #dispose()} once you are done with the widget.
+     */
+    protected boolean textureCached = false;
+
+    /**
+     * Set by a {@link PieWidgetLayer} while it draws its children: the shapes
+     * of the widget have already been drawn by the layer.
+     */
+    boolean shapesDeferred = false;
+
+    /**
+     * The contents of the slices, when they are not represented by children
+     * Actors. As long as there is at least one, there is one slice per
+     * content instead of one per child.
+     *
+     * @see SliceContent
+     */
+    private final Array<SliceContent> sliceContents = new Array<>();
+
 
     /* For internal use (optimization). */
     protected static final Color TRANSPARENT = new Color(0,0,0,0);
+    private final PieWidgetGeometry geometry = new PieWidgetGeometry();
+    private static final PieWidgetTemplate.Builder templateBuilder = new PieWidgetTemplate.Builder();
+    private final PieWidgetTexture texture = new PieWidgetTexture();
+    private final Affine2 shapesTransform = new Affine2();
+    private float[] slotColors = new float[PieWidgetGeometry.SLOT_FIRST_SLICE];
+    private Color[] slotSources = {new Color(), new Color(), new Color()};
+    private float[] shaderColors = new float[4 * PieWidgetGeometry.SLOT_FIRST_SLICE];
+    private final IntArray colorRuns = new IntArray();
+    private boolean slotColorsValid = false;
+    private boolean shaderColorsValid = false;
+    private float pixelScale = 1;
     private static Vector2 vector2 = new Vector2();
     private static Vector2 vector22 = new Vector2();
     private static Vector2 vector23 = new Vector2();
+    private static final Color contentColor = new Color();
+    private static final Color contentTint = new Color();
+    private boolean shapeDrawerProvided = false;
 
 
 
@@ -67,6 +156,16 @@ public class PieWidget extends RadialGroup {
         this.whitePixel = whitePixel;
     }
 
+    /**
+     * Used internally by the constructors to assign the style. The widget was
+     * just configured and has never been drawn: unlike
+     * {@link #setStyle(PieWidgetStyle)}, this does not invalidate it again.
+     */
+    protected void initStyle(PieWidgetStyle style) {
+        checkStyle(style);
+        this.style = style;
+    }
+
     /** Used internally for the shared properties among constructors of RadialWidgets. */
     protected PieWidget(final TextureRegion whitePixel, float preferredRadius) {
         super(preferredRadius);
@@ -106,7 +205,7 @@ public class PieWidget extends RadialGroup {
     public PieWidget(final TextureRegion whitePixel,
                      PieWidgetStyle style, float preferredRadius) {
         this(whitePixel, preferredRadius);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -124,7 +223,7 @@ public class PieWidget extends RadialGroup {
                      PieWidgetStyle style, float preferredRadius,
                      float innerRadiusPercent) {
         this(whitePixel, preferredRadius, innerRadiusPercent);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -144,7 +243,7 @@ public class PieWidget extends RadialGroup {
                      PieWidgetStyle style, float preferredRadius,
                      float innerRadiusPercent, float startDegreesOffset) {
         this(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -167,7 +266,7 @@ public class PieWidget extends RadialGroup {
                      PieWidgetStyle style, float preferredRadius,
                      float innerRadiusPercent, float startDegreesOffset, float totalDegreesDrawn) {
         this(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
-        setStyle(style);
+        initStyle(style);
     }
 
     /**
@@ -181,7 +280,7 @@ public class PieWidget extends RadialGroup {
     public PieWidget(final TextureRegion whitePixel,
                      Skin skin, float preferredRadius) {
         this(whitePixel, preferredRadius);
-        setStyle(skin.get(PieWidgetStyle.class));
+        initStyle(skin.get(PieWidgetStyle.class));
     }
 
     /**
@@ -199,7 +298,7 @@ public class PieWidget extends RadialGroup {
                      Skin skin, float preferredRadius,
                      float innerRadiusPercent) {
         this(whitePixel, preferredRadius, innerRadiusPercent);
-        setStyle(skin.get(PieWidgetStyle.class));
+        initStyle(skin.get(PieWidgetStyle.class));
     }
 
     /**
@@ -219,7 +318,7 @@ public class PieWidget extends RadialGroup {
                      Skin skin, float preferredRadius,
                      float innerRadiusPercent, float startDegreesOffset) {
         this(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setStyle(skin.get(PieWidgetStyle.class));
+        initStyle(skin.get(PieWidgetStyle.class));
     }
 
     /**
@@ -242,7 +341,7 @@ public class PieWidget extends RadialGroup {
                      Skin skin, float preferredRadius,
                      float innerRadiusPercent, float startDegreesOffset, float totalDegreesDrawn) {
         this(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
-        setStyle(skin.get(PieWidgetStyle.class));
+        initStyle(skin.get(PieWidgetStyle.class));
     }
 
     /**
@@ -257,7 +356,7 @@ public class PieWidget extends RadialGroup {
     public PieWidget(final TextureRegion whitePixel,
                      Skin skin, String style, float preferredRadius) {
         this(whitePixel, preferredRadius);
-        setStyle(skin.get(style, PieWidgetStyle.class));
+        initStyle(skin.get(style, PieWidgetStyle.class));
     }
 
 
@@ -277,7 +376,7 @@ public class PieWidget extends RadialGroup {
                      Skin skin, String style, float preferredRadius,
                      float innerRadiusPercent) {
         this(whitePixel, preferredRadius, innerRadiusPercent);
-        setStyle(skin.get(style, PieWidgetStyle.class));
+        initStyle(skin.get(style, PieWidgetStyle.class));
     }
 
     /**
@@ -298,7 +397,7 @@ public class PieWidget extends RadialGroup {
                      Skin skin, String style, float preferredRadius,
                      float innerRadiusPercent, float startDegreesOffset) {
         this(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setStyle(skin.get(style, PieWidgetStyle.class));
+        initStyle(skin.get(style, PieWidgetStyle.class));
     }
 
     /**
@@ -322,7 +421,7 @@ public class PieWidget extends RadialGroup {
                      Skin skin, String style, float preferredRadius,
                      float innerRadiusPercent, float startDegreesOffset, float totalDegreesDrawn) {
         this(whitePixel, preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
-        setStyle(skin.get(style, PieWidgetStyle.class));
+        initStyle(skin.get(style, PieWidgetStyle.class));
     }
 
 
@@ -334,7 +433,10 @@ public class PieWidget extends RadialGroup {
 
     /**
      * Ensures the {@link ShapeDrawer}'s {@link Batch} matches the one that is currently
-     * trying to draw the widget.
+     * trying to draw the widget.<br>
+     * Unless a custom one was provided through {@link #setShapeDrawer(ShapeDrawer)},
+     * the {@link ShapeDrawer} comes from the {@link ShapeDrawerRegistry}: all
+     * the widgets drawn with the same {@link Batch} share the same instance.
      *
      * @param batch the batch that is being used to draw the widget.
      * @return {@code false} only if the batch used is {@code null}. {@code true} otherwise.
@@ -343,27 +445,11 @@ public class PieWidget extends RadialGroup {
         if (batch == null) // todo: can this happen?
             return false;
 
-        if (sd == null || sd.getBatch() == null) {
-            sd = new ShapeDrawer(batch, whitePixel) {
-                /* OPTIONAL: Ensuring a certain smoothness. */
-                @Override
-                protected int estimateSidesRequired(float radiusX, float radiusY) {
-                    return 200;
-                }
-            };
-            return true;
-        }
-
-        if (sd.getBatch() == batch)
-            return true;
+        if (sd == null || sd.getBatch() != batch)
+            sd = ShapeDrawerRegistry.obtain(batch, whitePixel);
 
-        sd = new ShapeDrawer(batch, whitePixel) {
-            /* OPTIONAL: Ensuring a certain smoothness. */
-            @Override
-            protected int estimateSidesRequired(float radiusX, float radiusY) {
-                return 200;
-            }
-        };
+        if (sd instanceof ShapeDrawerRegistry.SharedShapeDrawer)
+            ((ShapeDrawerRegistry.SharedShapeDrawer)sd).prepare(whitePixel, getLevelOfDetail(), pixelScale);
         return true;
     }
 
@@ -376,9 +462,52 @@ public class PieWidget extends RadialGroup {
     @Override
     public void draw(Batch batch, float parentAlpha) {
         drawWithShapeDrawer(batch, parentAlpha, totalDegreesDrawn);
+        drawSliceContents(batch, parentAlpha, totalDegreesDrawn);
         drawMe(batch, parentAlpha);
     }
 
+    /**
+     * Draws the {@link SliceContent}s, if there are any, at the middle of
+     * their slice. They follow the position, rotation and scale of the
+     * widget, but the images and texts themselves remain upright.
+     *
+     * @param batch the Batch used to draw the Drawables and the texts.
+     * @param parentAlpha the inherited parent alpha.
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     */
+    protected void drawSliceContents(Batch batch, float parentAlpha, float degreesToDraw) {
+        if(sliceContents.size == 0)
+            return;
+
+        Affine2 transform = getShapesTransform(shapesTransform,
+                getX(Align.center), getY(Align.center), getRotation());
+        Color restore = contentColor.set(batch.getColor());
+        float alpha = parentAlpha * getColor().a * globalAlphaMultiplier;
+        BitmapFont font = style.font;
+
+        for(int i = 0; i < sliceContents.size; i++) {
+            SliceContent content = sliceContents.get(i);
+            float degrees = startDegreesOffset + (getSliceStart(i) + getSliceEnd(i)) * HALF * degreesToDraw;
+            float dist = (getSliceInnerRadius(i) + getSliceOuterRadius(i)) / 2;
+            transform.applyTo(vector2.set(dist * MathUtils.cosDeg(degrees), dist * MathUtils.sinDeg(degrees)));
+
+            float width = content.getDrawableWidth();
+            float height = content.getDrawableHeight();
+            Color tint = contentTint.set(content.tint.r, content.tint.g, content.tint.b, content.tint.a * alpha);
+            GlyphLayout layout = font == null || content.text == null ? null : content.getLayout(font, tint);
+            float textHeight = layout == null ? 0 : layout.height;
+            float top = vector2.y + (height + textHeight) / 2;
+
+            if(content.drawable != null) {
+                batch.setColor(tint);
+                content.drawable.draw(batch, vector2.x - width/2, top - height, width, height);
+            }
+            if(layout != null)
+                font.draw(batch, layout, vector2.x, top - height);
+        }
+        batch.setColor(restore);
+    }
+
     /** Calls the {@link WidgetGroup#draw(Batch, float)} method. */
     protected void drawMe(Batch batch, float parentAlpha) {
         super.draw(batch, parentAlpha);
@@ -400,70 +529,624 @@ public class PieWidget extends RadialGroup {
      * (Basically everything but the children Actors.)
      *
      * @param batch a Batch used to draw Drawables. The {@link #sd} is used to
-     *              draw everything else.
+     *              draw everything else, unless the {@link #geometryCached}
+     *              or the {@link #shaderRendering} flag is set.
      * @param parentAlpha the inherited parent alpha.
      * @param degreesToDraw how many degrees from the offset should be drawn.
      */
     protected void drawWithShapeDrawer(Batch batch, float parentAlpha, float degreesToDraw) {
 
+        /* Already drawn by the PieWidgetLayer this widget belongs to. */
+        if(shapesDeferred)
+            return;
+
+        if(!isShapeDrawerRequired()) {
+            drawBackground(batch, getX(Align.center), getY(Align.center), getRotation());
+            drawShapes(batch, getShapesTransform(shapesTransform,
+                    getX(Align.center), getY(Align.center), getRotation()), degreesToDraw);
+            return;
+        }
+
         /* Ensure the ShapeDrawer uses the proper Batch to draw. */
+        pixelScale = computePixelScale();
         if(!updateShapeDrawer(batch))
             return;
 
+        /* Background image */
+        drawBackground(batch);
+        updateSlotColors();
+
         /* Pre-calculating */
         float bgRadian  = MathUtils.degreesToRadians*degreesToDraw;
         float tmpOffset = MathUtils.degreesToRadians*(startDegreesOffset + getRotation());
-        final int SIZE  = getAmountOfChildren();
-        float tmpRad    = bgRadian / SIZE;
-
-        /* Background image */
-        if(style.background != null) {
-            Color bc = batch.getColor();
-            float restoreAlpha = bc.a;
-            batch.setColor(bc.r, bc.g, bc.b, bc.a * globalAlphaMultiplier);
-            if(style.background instanceof TransformDrawable) {
-                ((TransformDrawable)(style.background)).draw(batch,
-                        getX(Align.center) - getCurrentRadius(),
-                        getY(Align.center) - getCurrentRadius(),
-                        getCurrentRadius(), getCurrentRadius(),
-                        getCurrentDiameter(), getCurrentDiameter(),
-                        getScaleX(), getScaleY(),
-                        getRotation());
-            } else {
-                style.background.draw(batch,
-                        getX(Align.center) - getCurrentRadius(),
-                        getY(Align.center) - getCurrentRadius(),
-                        getCurrentDiameter(), getCurrentDiameter());
-            }
-            batch.setColor(bc.r, bc.g, bc.b, restoreAlpha);
-        }
+        final int SIZE  = getAmountOfSlices();
 
         /* Rest of background */
-        if(style.backgroundColor != null) {
-            propagateAlpha(sd, style.backgroundColor);
+        if(isSlotVisible(PieWidgetGeometry.SLOT_BACKGROUND)) {
+            propagateAlpha(sd, slotSources[PieWidgetGeometry.SLOT_BACKGROUND]);
             sd.sector(getX(Align.center), getY(Align.center),
                     getCurrentRadius()-BUFFER, tmpOffset, bgRadian); // buffer to prevent bg from sticking out from below children
         }
 
         /* Children */
         vector2.set(getX(Align.center), getY(Align.center));
+        for(int i=0; i<SIZE; i++)
+            drawChild(vector2, i, tmpOffset + getSliceStart(i)*bgRadian,
+                    MathUtils.degreesToRadians*getSliceDegrees(i, degreesToDraw));
+
+        /* Separators, above all the slices (as with the cached shapes) */
         for(int i=0; i<SIZE; i++) {
-            float tmp = tmpOffset + i*tmpRad;
-            drawChild(vector2, i, tmp, tmpRad);
+            drawChildSeparator(vector2, tmpOffset + getSliceStart(i)*bgRadian,
+                    getSliceInnerRadius(i), getSliceOuterRadius(i));
+
+            /* The remaining last separator of the ring */
+            if(i == SIZE-1 || !isSameRing(i, i + 1))
+                drawChildSeparator(vector2, tmpOffset + getSliceEnd(i)*bgRadian,
+                        getSliceInnerRadius(i), getSliceOuterRadius(i));
+        }
+    }
+
+    /**
+     * Draws the {@link PieWidgetStyle#background} image, if there is one.
+     *
+     * @param batch the Batch used to draw the Drawable.
+     */
+    protected void drawBackground(Batch batch) {
+        drawBackground(batch, getX(Align.center), getY(Align.center), getRotation());
+    }
+
+    /**
+     * Draws the {@link PieWidgetStyle#background} image, if there is one.
+     *
+     * @param batch the Batch used to draw the Drawable.
+     * @param x x-coordinate of the center of the widget.
+     * @param y y-coordinate of the center of the widget.
+     * @param rotation the rotation applied to the Drawable, in degrees.
+     */
+    protected void drawBackground(Batch batch, float x, float y, float rotation) {
+        if(style.background == null)
+            return;
+
+        Color bc = batch.getColor();
+        float restoreAlpha = bc.a;
+        batch.setColor(bc.r, bc.g, bc.b, bc.a * globalAlphaMultiplier);
+        if(style.background instanceof TransformDrawable) {
+            ((TransformDrawable)(style.background)).draw(batch,
+                    x - getCurrentRadius(),
+                    y - getCurrentRadius(),
+                    getCurrentRadius(), getCurrentRadius(),
+                    getCurrentDiameter(), getCurrentDiameter(),
+                    getScaleX(), getScaleY(),
+                    rotation);
+        } else {
+            style.background.draw(batch,
+                    x - getCurrentRadius(),
+                    y - getCurrentRadius(),
+                    getCurrentDiameter(), getCurrentDiameter());
+        }
+        batch.setColor(bc.r, bc.g, bc.b, restoreAlpha);
+    }
+
+    /**
+     * Draws the background color, the slices, the circumferences and the
+     * separators, either from a texture, with the {@link PieWidgetShader} or
+     * with the cached shapes. Does nothing if {@link #isShapeDrawerRequired()}.
+     *
+     * @param batch the Batch into which the shapes are sent.
+     * @param transform maps the coordinates relative to the center of the
+     *                  widget to the coordinates of the Batch.
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     */
+    protected void drawShapes(Batch batch, Affine2 transform, float degreesToDraw) {
+        if(isShapeDrawerRequired())
+            return;
+
+        pixelScale = computePixelScale();
+        if(textureCached)
+            drawTexture(batch, transform, degreesToDraw);
+        else if(isShaderUsable()) {
+            updateShaderColors();
+            PieWidgetShader.draw(batch, this, transform, degreesToDraw, pixelScale, shaderColors);
+        } else
+            drawGeometry(batch, transform, degreesToDraw);
+    }
+
+    /**
+     * Computes the transform applied to the shapes of the widget: the
+     * translation to its center, its rotation and its scale.
+     *
+     * @param output where the result is stored.
+     * @param x x-coordinate of the center of the widget.
+     * @param y y-coordinate of the center of the widget.
+     * @param rotation the rotation applied to the shapes, in degrees.
+     * @return the {@code output}, for chaining.
+     */
+    public Affine2 getShapesTransform(Affine2 output, float x, float y, float rotation) {
+        return output.setToTrnRotScl(x, y, rotation, getScaleX(), getScaleY());
+    }
+
+    /**
+     * @return {@code true} only if the {@link #sd} is needed to draw the
+     *         shapes, that is if none of the {@link #geometryCached}, the
+     *         {@link #textureCached} and the {@link #shaderRendering} flags
+     *         can be honored.
+     */
+    public boolean isShapeDrawerRequired() {
+        return (!geometryCached || isShapeDrawerCustomized()) && !textureCached && !isShaderUsable();
+    }
+
+    /**
+     * Override this to return {@code true} if your widget overrides any of the
+     * methods that only the {@link ShapeDrawer} calls: the shapes are then
+     * drawn with it, even if the {@link #geometryCached} flag is set.
+     *
+     * @see #geometryCached
+     * @return {@code true} only if a {@link ShapeDrawer} was provided through
+     *         {@link #setShapeDrawer(ShapeDrawer)}.
+     */
+    protected boolean isShapeDrawerCustomized() {
+        return shapeDrawerProvided;
+    }
+
+    private boolean isShaderUsable() {
+        return shaderRendering && hasUniformSlices() && PieWidgetShader.canDraw(getAmountOfSlices());
+    }
+
+    /**
+     * @return how many degrees from the offset should currently be drawn.
+     *         Animated widgets return the current angle of their animation.
+     */
+    protected float getDegreesToDraw() {
+        return totalDegreesDrawn;
+    }
+
+    /**
+     * Draws the cached shapes of the widget, rebuilding them first if any of
+     * the properties they depend on changed.
+     *
+     * @param batch the Batch into which the shapes are sent.
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     */
+    protected void drawGeometry(Batch batch, float degreesToDraw) {
+        drawGeometry(batch, getShapesTransform(shapesTransform,
+                getX(Align.center), getY(Align.center), getRotation()), degreesToDraw);
+    }
+
+    /**
+     * Draws the cached shapes of the widget, rebuilding them first if any of
+     * the properties they depend on changed.<br>
+     * The shapes themselves are never rebuilt because of the transform: the
+     * vertices are simply transformed again if it changed.
+     *
+     * @param batch the Batch into which the shapes are sent.
+     * @param transform maps the coordinates relative to the center of the
+     *                  widget to the coordinates of the Batch.
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     */
+    protected void drawGeometry(Batch batch, Affine2 transform, float degreesToDraw) {
+        updateSlotColors();
+        ensureGeometry(degreesToDraw);
+        geometry.draw(batch, whitePixel, slotColors, transform);
+    }
+
+    /**
+     * Draws the shapes of the widget from a texture, rendering them into it
+     * first if any of the properties they depend on changed.
+     *
+     * @see #textureCached
+     * @param batch the Batch into which the textured quad is sent.
+     * @param transform maps the coordinates relative to the center of the
+     *                  widget to the coordinates of the Batch.
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     */
+    protected void drawTexture(Batch batch, Affine2 transform, float degreesToDraw) {
+        if(!texture.isBakedFor(getCurrentRadius(), getInnerRadiusLength(),
+                startDegreesOffset, degreesToDraw, getAmountOfSlices(), pixelScale)) {
+            updateSlotColors();
+            ensureGeometry(degreesToDraw);
+            texture.bake(batch, getStage() == null ? null : getStage().getViewport(),
+                    geometry, whitePixel, slotColors,
+                    getCurrentRadius(), getInnerRadiusLength(), startDegreesOffset,
+                    degreesToDraw, getAmountOfSlices(), pixelScale);
+        }
+        texture.draw(batch, transform);
+    }
+
+    /**
+     * Rebuilds the cached shapes if any of the properties they depend on changed.
+     * The colors must be up-to-date, since transparent slots are skipped and
+     * slices of the same color are merged.<br>
+     * Widgets whose slices are all alike share their shapes through a
+     * {@link PieWidgetTemplate}: the shapes are only tessellated by the first
+     * widget that needs them. The shapes of a widget being animated are
+     * never shared.
+     *
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     */
+    private void ensureGeometry(float degreesToDraw) {
+        float radius = getCurrentRadius();
+        float innerRadius = getInnerRadiusLength();
+        int resolution = getSegmentsRequired(radius, MathUtils.PI2);
+        if(geometry.isBuiltFor(radius, innerRadius, startDegreesOffset, degreesToDraw,
+                getAmountOfSlices(), resolution, getLevelOfDetail(),
+                style.separatorWidth, style.circumferenceWidth, colorRuns))
+            return;
+
+        /* Weighted slices or rings depend on more than the parameters of the template.
+         * The frames of an animation would only evict the templates of the static widgets. */
+        boolean shareable = hasUniformSlices() && degreesToDraw == totalDegreesDrawn;
+        PieWidgetTemplate template = !shareable ? null : PieWidgetTemplate.find(radius, innerRadius,
+                startDegreesOffset, degreesToDraw, getAmountOfSlices(), resolution, getLevelOfDetail(),
+                style.separatorWidth, style.circumferenceWidth, colorRuns);
+        if(template == null) {
+            template = buildGeometry(degreesToDraw, resolution);
+            if(shareable)
+                PieWidgetTemplate.share(template);
+        }
+        geometry.setTemplate(template);
+    }
+
+    /**
+     * Tessellates the background color, the slices, the circumferences and the
+     * separators. The result is kept until one of the properties it depends
+     * on changes.<br>
+     * Fully transparent elements are skipped, and consecutive slices sharing
+     * the same color are tessellated as a single arc.
+     *
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     * @param resolution the amount of segments a full circle of the radius takes.
+     * @return the tessellated shapes.
+     */
+    private PieWidgetTemplate buildGeometry(float degreesToDraw, int resolution) {
+        final int SIZE     = getAmountOfSlices();
+        float radius       = getCurrentRadius();
+        float bgRadian     = MathUtils.degreesToRadians*degreesToDraw;
+        float offset       = MathUtils.degreesToRadians*startDegreesOffset;
+        templateBuilder.begin(radius, getInnerRadiusLength(), startDegreesOffset, degreesToDraw, SIZE,
+                resolution, getLevelOfDetail(), style.separatorWidth, style.circumferenceWidth, colorRuns);
+
+        /* Background color */
+        if(colorRuns.get(PieWidgetGeometry.SLOT_BACKGROUND) != PieWidgetGeometry.RUN_SKIPPED)
+            templateBuilder.arc(PieWidgetGeometry.SLOT_BACKGROUND, 0, radius-BUFFER, offset, bgRadian,
+                    getSegmentsRequired(radius, bgRadian)); // buffer to prevent bg from sticking out from below children
+
+        if(SIZE == 0)
+            return templateBuilder.build();
+
+        /* Slices */
+        for(int i=0; i<SIZE; ) {
+            int slot = PieWidgetGeometry.SLOT_FIRST_SLICE + i;
+            int length = 1;
+            while(i + length < SIZE && colorRuns.get(slot + length) == PieWidgetGeometry.RUN_MERGED
+                    && isSameRing(i, i + length))
+                length++;
+            if(colorRuns.get(slot) != PieWidgetGeometry.RUN_SKIPPED) {
+                float outer = getSliceOuterRadius(i);
+                float start = getSliceStart(i)*bgRadian;
+                float span  = getSliceEnd(i + length - 1)*bgRadian - start;
+                templateBuilder.arc(slot, getSliceInnerRadius(i), outer, offset + start, span,
+                        getSegmentsRequired(outer, span));
+            }
+            i += length;
+        }
+
+        /* Circumferences, along the edges of each ring */
+        if(colorRuns.get(PieWidgetGeometry.SLOT_CIRCUMFERENCE) != PieWidgetGeometry.RUN_SKIPPED
+                && style.circumferenceWidth > 0) {
+            for(int i=0; i<SIZE; ) {
+                int length = 1;
+                while(i + length < SIZE && isSameRing(i, i + length))
+                    length++;
+                float outer = getSliceOuterRadius(i);
+                float inner = getSliceInnerRadius(i);
+                float start = getSliceStart(i)*bgRadian;
+                float span  = getSliceEnd(i + length - 1)*bgRadian - start;
+                int segments = getSegmentsRequired(outer, span);
+                templateBuilder.arc(PieWidgetGeometry.SLOT_CIRCUMFERENCE,
+                        outer - style.circumferenceWidth, outer, offset + start, span, segments);
+                if(inner > 0)
+                    templateBuilder.arc(PieWidgetGeometry.SLOT_CIRCUMFERENCE,
+                            inner, inner + style.circumferenceWidth, offset + start, span, segments);
+                i += length;
+            }
+        }
+
+        /* Separators, at the start of each slice and at the end of each ring */
+        if(colorRuns.get(PieWidgetGeometry.SLOT_SEPARATOR) != PieWidgetGeometry.RUN_SKIPPED
+                && style.separatorWidth > 0) {
+            for(int i=0; i<SIZE; i++) {
+                buildSeparator(i, offset + getSliceStart(i)*bgRadian);
+                if(i == SIZE-1 || !isSameRing(i, i + 1))
+                    buildSeparator(i, offset + getSliceEnd(i)*bgRadian);
+            }
+        }
+        return templateBuilder.build();
+    }
+
+    private void buildSeparator(int index, float radians) {
+        float cos = MathUtils.cos(radians);
+        float sin = MathUtils.sin(radians);
+        float inner = getSliceInnerRadius(index);
+        float outer = getSliceOuterRadius(index);
+        templateBuilder.line(PieWidgetGeometry.SLOT_SEPARATOR,
+                inner*cos, inner*sin, outer*cos, outer*sin,
+                style.separatorWidth);
+    }
+
+    /**
+     * @return {@code true} only if both slices span the same distances from
+     *         the center of the widget.
+     */
+    private boolean isSameRing(int index, int other) {
+        return getSliceInnerRadius(index) == getSliceInnerRadius(other)
+                && getSliceOuterRadius(index) == getSliceOuterRadius(other);
+    }
+
+    /**
+     * Determines how many segments are used to approximate an arc, based on
+     * how big the arc appears on the screen.
+     *
+     * @see #levelOfDetail
+     * @param radius the radius of the arc, in the widget's coordinates.
+     * @param radians the angle spanned by the arc.
+     * @return the amount of straight segments used to draw the arc.
+     */
+    protected int getSegmentsRequired(float radius, float radians) {
+        return getLevelOfDetail().getSegments(radius * pixelScale, radians);
+    }
+
+    /**
+     * Finds how many pixels on the screen a single unit of the widget takes.
+     * This accounts for the scale of the widget, the scale of its parents and
+     * the {@link OrthographicCamera#zoom zoom} of the Stage's camera.
+     *
+     * @return the amount of pixels per unit.
+     */
+    protected float computePixelScale() {
+        float scale = 1;
+        for(Actor actor = this; actor != null; actor = actor.getParent())
+            scale *= Math.max(Math.abs(actor.getScaleX()), Math.abs(actor.getScaleY()));
+
+        if(getStage() != null) {
+            Viewport viewport = getStage().getViewport();
+            if(viewport.getWorldWidth() > 0)
+                scale *= viewport.getScreenWidth() / viewport.getWorldWidth();
+            if(viewport.getCamera() instanceof OrthographicCamera)
+                scale /= ((OrthographicCamera)viewport.getCamera()).zoom;
+        }
+        return scale;
+    }
 
-            /* Separator */
-            drawChildSeparator(vector2, tmp);
+    /**
+     * Updates the packed colors used to draw the shapes, if they were
+     * {@link #invalidateColors() invalidated}. This is where
+     * {@link #getColor(int)} gets called for each slice.
+     */
+    private void updateSlotColors() {
+        if(slotColorsValid)
+            return;
+        slotColorsValid = true;
+
+        int required = PieWidgetGeometry.SLOT_FIRST_SLICE + getAmountOfSlices();
+        if(slotColors.length < required) {
+            slotColors = new float[required];
+            slotSources = new Color[required];
+            for(int i=0; i<required; i++)
+                slotSources[i] = new Color();
         }
 
-        /* The remaining last separator to be drawn */
-        drawChildSeparator(vector2, tmpOffset + SIZE*tmpRad);
+        packAlpha(PieWidgetGeometry.SLOT_BACKGROUND, style.backgroundColor);
+        packAlpha(PieWidgetGeometry.SLOT_CIRCUMFERENCE, style.circumferenceColor);
+        packAlpha(PieWidgetGeometry.SLOT_SEPARATOR, style.separatorColor);
+        for(int i=0; i<getAmountOfSlices(); i++)
+            packAlpha(PieWidgetGeometry.SLOT_FIRST_SLICE + i, getColor(i));
+        PieWidgetGeometry.computeRuns(slotColors, getAmountOfSlices(), hasStatefulColors(), colorRuns);
+    }
+
+    /**
+     * Updates the RGBA values sent as uniforms to the {@link PieWidgetShader}.
+     * This is where {@link #getColor(int)} gets called for each slice.
+     */
+    private void updateShaderColors() {
+        if(shaderColorsValid)
+            return;
+        shaderColorsValid = true;
+
+        int required = 4 * (PieWidgetGeometry.SLOT_FIRST_SLICE + getAmountOfSlices());
+        if(shaderColors.length < required)
+            shaderColors = new float[required];
+
+        unpackAlpha(PieWidgetGeometry.SLOT_BACKGROUND, style.backgroundColor);
+        unpackAlpha(PieWidgetGeometry.SLOT_CIRCUMFERENCE, style.circumferenceColor);
+        unpackAlpha(PieWidgetGeometry.SLOT_SEPARATOR, style.separatorColor);
+        for(int i=0; i<getAmountOfSlices(); i++)
+            unpackAlpha(PieWidgetGeometry.SLOT_FIRST_SLICE + i, getColor(i));
+    }
+
+    private void unpackAlpha(int slot, Color input) {
+        if(input == null)
+            input = TRANSPARENT;
+        shaderColors[4*slot]     = input.r;
+        shaderColors[4*slot + 1] = input.g;
+        shaderColors[4*slot + 2] = input.b;
+        shaderColors[4*slot + 3] = input.a * globalAlphaMultiplier;
+    }
+
+    /**
+     * @param slot a color slot, as defined by {@link PieWidgetGeometry}.
+     * @return {@code false} only if the color of that slot is fully transparent.
+     */
+    private boolean isSlotVisible(int slot) {
+        return !PieWidgetGeometry.isTransparent(slotColors[slot]);
+    }
+
+    /**
+     * Packs the color of a slot, propagating the {@link #globalAlphaMultiplier}
+     * to it. A copy of the Color is kept for {@link #propagateAlpha(ShapeDrawer, Color)}.
+     *
+     * @param slot a color slot, as defined by {@link PieWidgetGeometry}.
+     * @param input the {@link Color} to be copying RGB values from. If
+     *              {@code null}, the slot is transparent.
+     */
+    private void packAlpha(int slot, Color input) {
+        if(input == null)
+            input = TRANSPARENT;
+        slotSources[slot].set(input);
+        slotColors[slot] = Color.toFloatBits(input.r, input.g, input.b, input.a * globalAlphaMultiplier);
+    }
+
+    /**
+     * Forces the cached shapes to be tessellated again the next time the
+     * widget is drawn.<br>
+     * Only needed if you override a method that changes the way the
+     * shapes are built.
+     */
+    public void invalidateGeometry() {
+        geometry.invalidate();
+        texture.invalidate();
+    }
+
+    /**
+     * Forces the colors of the slices to be fetched again through
+     * {@link #getColor(int)} the next time the widget is drawn.<br>
+     * This is done automatically whenever the style, the
+     * {@link #globalAlphaMultiplier}, the children or (for a {@link PieMenu})
+     * the selected, highlighted or hovered index change. Call this if you
+     * override {@link #getColor(int)} and its result changes for any other
+     * reason.
+     */
+    public void invalidateColors() {
+        slotColorsValid = false;
+        shaderColorsValid = false;
+        texture.invalidate();
+    }
+
+    @Override
+    protected void childrenChanged() {
+        super.childrenChanged();
+        invalidateColors();
+    }
+
+    @Override
+    protected void slicesChanged() {
+        super.slicesChanged();
+        invalidateGeometry();
+    }
+
+    @Override
+    public int getAmountOfSlices() {
+        return sliceContents.size > 0 ? sliceContents.size : getAmountOfChildren();
+    }
+
+    /**
+     * Adds the content of a new slice. As long as there is at least one
+     * {@link SliceContent}, there is one slice per content instead of one per
+     * child. Children can still be added: they are laid out within the
+     * first slices, and those that are left without a slice are hidden.
+     *
+     * @param content the content of the new slice.
+     */
+    public void addSliceContent(SliceContent content) {
+        if(content == null)
+            throw new IllegalArgumentException("content cannot be null.");
+        sliceContents.add(content);
+        sliceContentsChanged();
+    }
+
+    /**
+     * Replaces all the {@link SliceContent}s at once.
+     *
+     * @see #addSliceContent(SliceContent)
+     * @param contents the contents of the slices, in order.
+     */
+    public void setSliceContents(SliceContent... contents) {
+        if(contents == null)
+            throw new IllegalArgumentException("contents cannot be null.");
+        for(SliceContent content : contents)
+            if(content == null)
+                throw new IllegalArgumentException("contents cannot contain null.");
+        sliceContents.clear();
+        sliceContents.addAll(contents);
+        sliceContentsChanged();
+    }
+
+    /**
+     * @param content the content to be removed.
+     * @return {@code true} only if it was one of the contents of the widget.
+     */
+    public boolean removeSliceContent(SliceContent content) {
+        boolean wasRemoved = sliceContents.removeValue(content, true);
+        if(wasRemoved)
+            sliceContentsChanged();
+        return wasRemoved;
+    }
+
+    /**
+     * Removes all the {@link SliceContent}s: the slices are then once again
+     * defined by the children.
+     */
+    public void clearSliceContents() {
+        if(sliceContents.size == 0)
+            return;
+        sliceContents.clear();
+        sliceContentsChanged();
+    }
+
+    /**
+     * @return the contents of the slices. Changes to the returned Array must
+     *         be followed by a call to {@link #sliceContentsChanged()}.
+     */
+    public Array<SliceContent> getSliceContents() {
+        return sliceContents;
+    }
+
+    /**
+     * Must be called after modifying a {@link SliceContent} already in use, or
+     * the Array returned by {@link #getSliceContents()}.
+     */
+    public void sliceContentsChanged() {
+        for(int i = 0; i < sliceContents.size; i++)
+            sliceContents.get(i).invalidateLayout();
+        invalidateColors();
+        slicesChanged();
     }
 
+    /**
+     * Draws a separator spanning the whole ring of the widget, from the
+     * {@link #getInnerRadiusLength() inner radius} to the
+     * {@link #getCurrentRadius() radius}.
+     *
+     * @param vector2 the center of the widget.
+     * @param drawnRadianAngle the angle along which the separator is drawn.
+     */
     protected void drawChildSeparator(Vector2 vector2, float drawnRadianAngle) {
-        if(hasChildren() && style.separatorColor != null && style.separatorWidth > 0) {
-            propagateAlpha(sd, style.separatorColor);
-            sd.line(pointAtAngle(vector22, vector2, getInnerRadiusLength(), drawnRadianAngle),
-                    pointAtAngle(vector23, vector2, getCurrentRadius(), drawnRadianAngle),
+        drawSeparatorLine(vector2, drawnRadianAngle, getInnerRadiusLength(), getCurrentRadius());
+    }
+
+    /**
+     * Draws a separator in between two distances from the center. The slices
+     * of a {@link RingPieMenu} only span part of the widget.<br>
+     * Separators spanning the whole ring are drawn through
+     * {@link #drawChildSeparator(Vector2, float)}, so overriding either of
+     * them is honored.
+     *
+     * @param vector2 the center of the widget.
+     * @param drawnRadianAngle the angle along which the separator is drawn.
+     * @param innerRadius distance from the center at which the separator starts.
+     * @param radius distance from the center at which the separator ends.
+     */
+    protected void drawChildSeparator(Vector2 vector2, float drawnRadianAngle, float innerRadius, float radius) {
+        if(innerRadius == getInnerRadiusLength() && radius == getCurrentRadius())
+            drawChildSeparator(vector2, drawnRadianAngle);
+        else
+            drawSeparatorLine(vector2, drawnRadianAngle, innerRadius, radius);
+    }
+
+    private void drawSeparatorLine(Vector2 vector2, float drawnRadianAngle, float innerRadius, float radius) {
+        if(hasChildren() && isSlotVisible(PieWidgetGeometry.SLOT_SEPARATOR) && style.separatorWidth > 0) {
+            propagateAlpha(sd, slotSources[PieWidgetGeometry.SLOT_SEPARATOR]);
+            sd.line(pointAtAngle(vector22, vector2, innerRadius, drawnRadianAngle),
+                    pointAtAngle(vector23, vector2, radius, drawnRadianAngle),
                     style.separatorWidth);
         }
     }
@@ -489,7 +1172,10 @@ public class PieWidget extends RadialGroup {
      * Override this method when creating your Widget if you want to have control
      * over those colors.<br>
      * <b>Do not</b> set the color of the {@link ShapeDrawer} in there: that is
-     * handled internally. Just return the desired Color.<br><br>
+     * handled internally. Just return the desired Color.<br>
+     * The returned colors are kept until {@link #invalidateColors()} is called
+     * (which is done automatically when the state of the widget changes): if
+     * your colors change over time, make sure to call it.<br><br>
      * Here is an example:
      * <pre>
      * {@code
@@ -517,20 +1203,38 @@ public class PieWidget extends RadialGroup {
         return TRANSPARENT;
     }
 
+    /**
+     * Tells whether the colors returned by {@link #getColor(int)} change with
+     * the state of the widget (a hovered or selected slice, for example), and
+     * not only with its style.<br>
+     * Consecutive slices of the same color are only merged into a single arc
+     * (and transparent slices are only skipped) by the cached shapes if they
+     * don't: a change of state then remains a patch of the colors of a few
+     * slices, instead of a new tessellation. Override this if your
+     * {@link #getColor(int)} depends on anything else than the index.
+     *
+     * @return {@code false} for a PieWidget.
+     */
+    protected boolean hasStatefulColors() {
+        return false;
+    }
+
     protected void drawChild(Vector2 vector2, int index, float startAngle, float radian) {
-        propagateAlpha(sd, getColor(index));
-        sd.arc(vector2.x, vector2.y, (getCurrentRadius() + getInnerRadiusLength())/2,
-                startAngle, radian, getCurrentRadius() - getInnerRadiusLength());
+        if(isSlotVisible(PieWidgetGeometry.SLOT_FIRST_SLICE + index)) {
+            propagateAlpha(sd, slotSources[PieWidgetGeometry.SLOT_FIRST_SLICE + index]);
+            sd.arc(vector2.x, vector2.y, (getSliceOuterRadius(index) + getSliceInnerRadius(index))/2,
+                    startAngle, radian, getSliceOuterRadius(index) - getSliceInnerRadius(index));
+        }
 
         /* Circumferences */
-        drawChildCircumference(vector2, startAngle, radian, getCurrentRadius() - style.circumferenceWidth/2);
-        if(innerRadiusPercent > 0)
-            drawChildCircumference(vector2, startAngle, radian, getInnerRadiusLength() + style.circumferenceWidth/2);
+        drawChildCircumference(vector2, startAngle, radian, getSliceOuterRadius(index) - style.circumferenceWidth/2);
+        if(getSliceInnerRadius(index) > 0)
+            drawChildCircumference(vector2, startAngle, radian, getSliceInnerRadius(index) + style.circumferenceWidth/2);
     }
 
     protected void drawChildCircumference(Vector2 vector2, float startAngle, float radian, float radius) {
-        if(style.circumferenceColor != null && style.circumferenceWidth > 0) {
-            propagateAlpha(sd, style.circumferenceColor);
+        if(isSlotVisible(PieWidgetGeometry.SLOT_CIRCUMFERENCE) && style.circumferenceWidth > 0) {
+            propagateAlpha(sd, slotSources[PieWidgetGeometry.SLOT_CIRCUMFERENCE]);
             sd.arc(vector2.x, vector2.y, radius, startAngle, radian, style.circumferenceWidth);
         }
     }
@@ -571,6 +1275,27 @@ public class PieWidget extends RadialGroup {
     }
 
 
+    /**
+     * Applies the style and all the properties that define the shape of the
+     * widget at once.<br>
+     * Everything is validated before anything is applied: if a value is
+     * invalid, the widget is left untouched. The widget is then invalidated a
+     * single time, which makes this cheaper than calling each setter (or
+     * {@link #setStyle(PieWidgetStyle)}) in turn.
+     *
+     * @param style defines the way the widget looks like.
+     * @see RadialGroup#configure(float, float, float, float)
+     */
+    public void configure(PieWidgetStyle style, float preferredRadius, float innerRadiusPercent,
+                          float startDegreesOffset, float totalDegreesDrawn) {
+        checkStyle(style);
+        configure(preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
+        this.style = style;
+        invalidateGeometry();
+        invalidateColors();
+        invalidate();
+    }
+
     /**
      * Runs checks before assigning the style to the Widget. Only a valid style
      * will pass the test.
@@ -580,6 +1305,8 @@ public class PieWidget extends RadialGroup {
     public void setStyle(PieWidgetStyle style) {
         checkStyle(style);
         this.style = style;
+        invalidateGeometry();
+        invalidateColors();
         invalidate();
     }
 
@@ -681,6 +1408,13 @@ public class PieWidget extends RadialGroup {
          */
         public float circumferenceWidth;
 
+        /**
+         * <i>Optional.</i><br>
+         * The font used to draw the {@link SliceContent#text text} of the
+         * {@link SliceContent}s. Without it, no text is drawn.
+         */
+        public BitmapFont font;
+
 
         /**
          * Encompasses the characteristics that define the style of the Widget
@@ -704,6 +1438,7 @@ public class PieWidget extends RadialGroup {
             this.sliceColor = new Color(style.sliceColor);
             this.alternateSliceColor = new Color(style.alternateSliceColor);
             this.backgroundColor = new Color(style.backgroundColor);
+            this.font = style.font;
         }
     }
 
@@ -741,6 +1476,109 @@ public class PieWidget extends RadialGroup {
         this.hitThroughInnerRadius = hitThroughInnerRadius;
     }
 
+    @Override
+    public void setGlobalAlphaMultiplier(float globalAlphaMultiplier) {
+        super.setGlobalAlphaMultiplier(globalAlphaMultiplier);
+        invalidateColors();
+    }
+
+    /**
+     * @see #levelOfDetail
+     * @return the {@link LevelOfDetail} used by this widget. If none was set,
+     *         the {@link LevelOfDetail#getDefault() default} one.
+     */
+    public LevelOfDetail getLevelOfDetail() {
+        return levelOfDetail == null ? LevelOfDetail.getDefault() : levelOfDetail;
+    }
+
+    /**
+     * @see #levelOfDetail
+     * @param levelOfDetail the {@link LevelOfDetail} to be used by this widget.
+     *                      If {@code null}, the {@link LevelOfDetail#getDefault()
+     *                      default} one will be used.
+     */
+    public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+        this.levelOfDetail = levelOfDetail;
+        invalidateGeometry();
+    }
+
+    /**
+     * @see #geometryCached
+     * @return {@code true} only if the shapes of the widget are tessellated
+     *         once and reused on every frame.
+     */
+    public boolean isGeometryCached() {
+        return geometryCached;
+    }
+
+    /**
+     * @see #geometryCached
+     * @param geometryCached set to {@code false} only if you want the
+     *                       {@link ShapeDrawer} to draw the shapes of the
+     *                       widget on every frame. This is already the case
+     *                       if you override
+     *                       {@link #drawChild(Vector2, int, float, float)},
+     *                       for example.
+     */
+    public void setGeometryCached(boolean geometryCached) {
+        if(this.geometryCached != geometryCached) {
+            this.geometryCached = geometryCached;
+            invalidateGeometry();
+        }
+    }
+
+    /**
+     * @see #shaderRendering
+     * @return {@code true} only if the shapes of the widget are drawn by the
+     *         {@link PieWidgetShader}, when possible.
+     */
+    public boolean isShaderRendering() {
+        return shaderRendering;
+    }
+
+    /**
+     * @see #shaderRendering
+     * @param shaderRendering set to {@code true} only if you want the shapes
+     *                        of the widget to be drawn by the {@link PieWidgetShader}.
+     *                        The {@link Batch} is flushed once for every widget
+     *                        drawn that way.
+     */
+    public void setShaderRendering(boolean shaderRendering) {
+        this.shaderRendering = shaderRendering;
+    }
+
+    /**
+     * @see #textureCached
+     * @return {@code true} only if the shapes of the widget are rendered once
+     *         into a texture.
+     */
+    public boolean isTextureCached() {
+        return textureCached;
+    }
+
+    /**
+     * @see #textureCached
+     * @param textureCached set to {@code true} only if you want the shapes of
+     *                      the widget to be rendered once into a texture.
+     *                      Setting it back to {@code false} releases the
+     *                      texture.
+     */
+    public void setTextureCached(boolean textureCached) {
+        this.textureCached = textureCached;
+        if(!textureCached)
+            texture.dispose();
+    }
+
+    /**
+     * Releases the texture used by the {@link #textureCached} mode, if there
+     * is one. The widget remains usable: the texture is rendered again the
+     * next time it is needed.<br>
+     * Call it once you are done with a widget for which that mode was enabled.
+     */
+    public void dispose() {
+        texture.dispose();
+    }
+
     /**
      * @return the {@link ShapeDrawer} used to draw everything but the contained Actors
      * and the Drawables.
@@ -752,15 +1590,16 @@ public class PieWidget extends RadialGroup {
     /**
      * You probably shouldn't be messing with this, but it's provided for
      * convenience reasons.<br>
-     * For example, it's possible that your widget will be <i>so</i> big that
-     * the {@link ShapeDrawer} will crash with an Exception while trying to
-     * draw it. You would then want to use this setter to provide a brand new
-     * instance which didn't override the {@code estimateSidesRequired(float, float)}
-     * method to try to increase the smoothness of the curves.
+     * Keep in mind that this instance is not used if the {@link #textureCached}
+     * or the {@link #shaderRendering} flag is set, and that the one created internally already gets the
+     * amount of sides of its curves from the {@link #levelOfDetail}: to change
+     * the smoothness of the curves, you probably want to look into
+     * {@link #setLevelOfDetail(LevelOfDetail)} instead.
      *
      * @param sd the new instance of {@link ShapeDrawer} that you want to use.
      */
     public void setShapeDrawer(ShapeDrawer sd) {
         this.sd = sd;
+        shapeDrawerProvided = sd != null;
     }
 }
@@ -0,0 +1,216 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
+
+
+/**
+ * Draws the tessellated shapes of a {@link PieWidget}, as held by a
+ * {@link PieWidgetTemplate}, so that they do not have to be recomputed on
+ * every frame.<br>
+ * Every shape is stored as a list of quads whose positions are relative to
+ * the center of the widget, without any rotation applied. Colors are not
+ * stored: each primitive refers to a "color slot" whose value is provided
+ * at the moment the geometry is drawn.<br>
+ * The vertices sent to the {@link Batch} are kept as well: as long as the
+ * widget doesn't move, they are sent as they are. When only the colors of
+ * some slots change (a hovered slice, for example), only the color of the
+ * vertices of those slots is rewritten.
+ */
+class PieWidgetGeometry {
+
+    /** Amount of floats taken by a single vertex sent to a {@link Batch}. */
+    static final int VERTEX_SIZE = 5;
+
+    /** Amount of floats taken by a single quad sent to a {@link Batch}. */
+    static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+
+    /* Color slots. */
+    static final int SLOT_BACKGROUND    = 0;
+    static final int SLOT_CIRCUMFERENCE = 1;
+    static final int SLOT_SEPARATOR     = 2;
+    static final int SLOT_FIRST_SLICE   = 3;
+
+    /* How each slot is to be tessellated. See computeRuns(). */
+    static final int RUN_SKIPPED = 0;
+    static final int RUN_MERGED  = 1;
+    static final int RUN_START   = 2;
+
+    /** The shapes, possibly shared with other widgets. */
+    private PieWidgetTemplate template;
+
+
+    /* The vertices last sent to the Batch, and the transform they were computed with. */
+    private float[] vertices = new float[0];
+    private int vertexCount;
+    private boolean verticesValid = false;
+    private Texture texture;
+    private final Affine2 lastTransform = new Affine2();
+    private float lastU, lastV;
+
+
+
+
+    /**
+     * @param resolution the amount of segments a full circle of the outer
+     *                   radius would take. It changes with the scale at
+     *                   which the widget appears on the screen.
+     * @param runs which slots are skipped or merged, as found by
+     *             {@link #computeRuns(float[], int, boolean, IntArray)}.
+     * @return {@code true} only if the geometry was built with exactly those
+     *         parameters and has not been {@link #invalidate() invalidated} since.
+     */
+    boolean isBuiltFor(float radius, float innerRadius, float startDegreesOffset, float degreesDrawn,
+                       int amount, int resolution, LevelOfDetail levelOfDetail,
+                       float separatorWidth, float circumferenceWidth, IntArray runs) {
+        return template != null
+                && template.matches(radius, innerRadius, startDegreesOffset, degreesDrawn,
+                        amount, resolution, levelOfDetail, separatorWidth, circumferenceWidth, runs);
+    }
+
+    /**
+     * @param template the shapes to be drawn from now on.
+     */
+    void setTemplate(PieWidgetTemplate template) {
+        this.template = template;
+        verticesValid = false;
+    }
+
+    /**
+     * Finds which slots do not need to be tessellated at all (because they
+     * are fully transparent) and which slices can be merged with the previous
+     * one (because they share the same color).<br>
+     * As long as the result doesn't change, the geometry stays valid and only
+     * the colors of its vertices are updated. This is why slices whose color
+     * depends on the state of the widget are neither skipped nor merged: a
+     * hovered slice would otherwise split its run, and the shapes would have
+     * to be tessellated again.
+     *
+     * @param slotColors the packed color of each color slot.
+     * @param amount the amount of slices.
+     * @param statefulSlices whether the colors of the slices depend on the
+     *                       state of the widget. If so, each slice keeps
+     *                       its own primitive.
+     * @param output receives one of {@link #RUN_SKIPPED}, {@link #RUN_MERGED}
+     *               or {@link #RUN_START} for each slot.
+     */
+    static void computeRuns(float[] slotColors, int amount, boolean statefulSlices, IntArray output) {
+        output.clear();
+        for(int slot = 0; slot < SLOT_FIRST_SLICE + amount; slot++) {
+            float color = slotColors[slot];
+            if(statefulSlices && slot >= SLOT_FIRST_SLICE)
+                output.add(RUN_START);
+            else if(isTransparent(color))
+                output.add(RUN_SKIPPED);
+            else if(slot > SLOT_FIRST_SLICE && color == slotColors[slot-1])
+                output.add(RUN_MERGED);
+            else
+                output.add(RUN_START);
+        }
+    }
+
+    /**
+     * @param packedColor a color packed into a float.
+     * @return {@code true} only if the alpha of the color is 0.
+     */
+    static boolean isTransparent(float packedColor) {
+        return (NumberUtils.floatToIntColor(packedColor) & 0xff000000) == 0;
+    }
+
+    /** Forces the geometry to be rebuilt the next time it is needed. */
+    void invalidate() {
+        template = null;
+    }
+
+    /**
+     * Sends the whole geometry to the {@link Batch}, transformed.<br>
+     * The vertices computed on the previous call are reused if the transform
+     * and the texture didn't change: only the vertices of the slots whose
+     * color changed are then updated.
+     *
+     * @param batch where the quads are drawn.
+     * @param region the white pixel that is used as a texture.
+     * @param slotColors the packed color of each color slot.
+     * @param transform maps the positions of the quads (relative to the
+     *                  center of the widget) to the coordinates of the Batch.
+     */
+    void draw(Batch batch, TextureRegion region, float[] slotColors, Affine2 transform) {
+        float u = (region.getU() + region.getU2()) / 2;
+        float v = (region.getV() + region.getV2()) / 2;
+        if(!verticesValid || texture != region.getTexture()
+                || !isSameTransform(transform) || u != lastU || v != lastV) {
+            texture = region.getTexture();
+            lastTransform.set(transform);
+            lastU = u;
+            lastV = v;
+            transform(slotColors);
+            verticesValid = true;
+        } else
+            updateColors(slotColors);
+
+        if(vertexCount > 0)
+            batch.draw(texture, vertices, 0, vertexCount);
+    }
+
+    /**
+     * Computes all the vertices from the positions of the quads.
+     *
+     * @param slotColors the packed color of each color slot.
+     */
+    private void transform(float[] slotColors) {
+        float[] items = template.positions;
+        int[] primitives = template.primitives;
+        vertexCount = items.length / 2 * VERTEX_SIZE;
+        if(vertices.length < vertexCount)
+            vertices = new float[vertexCount];
+
+        Affine2 t = lastTransform;
+        int idx = 0;
+        for(int p = 0; p < primitives.length; p += 3) {
+            float color = slotColors[primitives[p]];
+            int start = primitives[p+1] * 8;
+            int end = start + primitives[p+2] * 8;
+            for(int i = start; i < end; i += 2) {
+                float px = items[i];
+                float py = items[i+1];
+                vertices[idx++] = t.m00*px + t.m01*py + t.m02;
+                vertices[idx++] = t.m10*px + t.m11*py + t.m12;
+                vertices[idx++] = color;
+                vertices[idx++] = lastU;
+                vertices[idx++] = lastV;
+            }
+        }
+    }
+
+    private boolean isSameTransform(Affine2 transform) {
+        return lastTransform.m00 == transform.m00 && lastTransform.m01 == transform.m01
+                && lastTransform.m02 == transform.m02 && lastTransform.m10 == transform.m10
+                && lastTransform.m11 == transform.m11 && lastTransform.m12 == transform.m12;
+    }
+
+    /**
+     * Rewrites the color of the vertices of the primitives whose slot
+     * changed color since the last time they were written.
+     *
+     * @param slotColors the packed color of each color slot.
+     */
+    private void updateColors(float[] slotColors) {
+        int[] primitives = template.primitives;
+        for(int p = 0; p < primitives.length; p += 3) {
+            int quads = primitives[p+2];
+            if(quads == 0)
+                continue;
+            float color = slotColors[primitives[p]];
+            int start = primitives[p+1] * QUAD_SIZE + 2;
+            if(vertices[start] == color)
+                continue;
+            int end = start + quads * QUAD_SIZE;
+            for(int i = start; i < end; i += VERTEX_SIZE)
+                vertices[i] = color;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+
+
+/**
+ * Draws the whole {@link PieWidget} as a single quad: a fragment shader
+ * evaluates the background color, the slices, the circumferences and the
+ * separators analytically, for every pixel.<br>
+ * The edges are thus anti-aliased no matter the radius, and nothing has to
+ * be tessellated on the CPU. Changing the amount of degrees drawn (during an
+ * opening animation, for example) only changes a uniform.<br>
+ * The shader supports at most {@value #MAX_SLICES} slices: widgets with more
+ * children fall back to the tessellated geometry.
+ *
+ * @see PieWidget#setShaderRendering(boolean)
+ * @author Jérémi Grenier-Berthiaume (aka "payne")
+ */
+public final class PieWidgetShader {
+
+    /**
+     * The maximal amount of slices the shader can draw.
+     */
+    public static final int MAX_SLICES = 32;
+
+    static final String VERTEX_SHADER = ""
+            + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "uniform vec2 u_center;\n"
+            + "uniform vec4 u_inverse;\n" // inverse of the rotation and scale of the widget
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "varying vec2 v_local;\n"
+            + "\n"
+            + "void main() {\n"
+            + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "    v_color.a = v_color.a * (255.0/254.0);\n"
+            + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "    vec2 d = " + ShaderProgram.POSITION_ATTRIBUTE + ".xy - u_center;\n"
+            + "    v_local = vec2(d.x*u_inverse.x + d.y*u_inverse.y, d.x*u_inverse.z + d.y*u_inverse.w);\n"
+            + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+
+    static final String FRAGMENT_SHADER = ""
+            + "#ifdef GL_ES\n"
+            + "#ifdef GL_FRAGMENT_PRECISION_HIGH\n"
+            + "precision highp float;\n"
+            + "#else\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "#endif\n"
+            + "#define MAX_SLICES " + MAX_SLICES + "\n"
+            + "#define PI2 6.28318530718\n"
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "varying vec2 v_local;\n"
+            + "uniform sampler2D u_texture;\n"
+            + "uniform vec4 u_radii;\n"  // outer, inner, background, size of a pixel
+            + "uniform vec4 u_angles;\n" // start, drawn, amount of slices, angle of a slice
+            + "uniform vec4 u_widths;\n" // separator, circumference, inner circumference (0 or 1)
+            + "uniform vec4 u_backgroundColor;\n"
+            + "uniform vec4 u_circumferenceColor;\n"
+            + "uniform vec4 u_separatorColor;\n"
+            + "uniform vec4 u_sliceColors[MAX_SLICES];\n"
+            + "\n"
+            + "float coverage(float signedDistance) {\n"
+            + "    return clamp(0.5 + signedDistance / u_radii.w, 0.0, 1.0);\n"
+            + "}\n"
+            + "\n"
+            + "vec4 over(vec4 dst, vec4 src, float cov) {\n" // 'dst' is premultiplied
+            + "    float a = src.a * cov;\n"
+            + "    return vec4(src.rgb * a + dst.rgb * (1.0 - a), a + dst.a * (1.0 - a));\n"
+            + "}\n"
+            + "\n"
+            + "float separator(float k, float dist) {\n" // signed distance to the k-th separator
+            + "    float angle = u_angles.x + clamp(k, 0.0, u_angles.z) * u_angles.w;\n"
+            + "    vec2 dir = vec2(cos(angle), sin(angle));\n"
+            + "    float along = dot(v_local, dir);\n"
+            + "    float perp = abs(dir.x*v_local.y - dir.y*v_local.x);\n"
+            + "    return max(perp - u_widths.x*0.5, max(u_radii.y - along, along - u_radii.x));\n"
+            + "}\n"
+            + "\n"
+            + "void main() {\n"
+            + "    float dist = length(v_local);\n"
+            + "    float angle = mod(atan(v_local.y, v_local.x) - u_angles.x, PI2);\n"
+            + "    float drawn = u_angles.y;\n"
+            + "    bool full = drawn >= PI2 - 0.0001;\n"
+            + "    float wedge = 1.0;\n"
+            + "    if(!full) {\n"
+            + "        wedge = angle <= drawn\n"
+            + "                ? min(angle, drawn - angle) * dist\n"
+            + "                : -min(angle - drawn, PI2 - angle) * dist;\n"
+            + "        wedge = drawn <= 0.0 ? 0.0 : coverage(wedge);\n"
+            + "    }\n"
+            + "    vec4 color = over(vec4(0.0), u_backgroundColor, coverage(u_radii.z - dist) * wedge);\n"
+            + "\n"
+            + "    float count = u_angles.z;\n"
+            + "    if(count > 0.0) {\n"
+            + "        float ring = min(dist - u_radii.y, u_radii.x - dist);\n"
+            + "\n"
+            + "        /* Slices, blended with their neighbours along their edges. */\n"
+            + "        float index = clamp(floor(angle / u_angles.w), 0.0, count - 1.0);\n"
+            + "        float t = angle - index * u_angles.w;\n"
+            + "        float prev = mod(index - 1.0 + count, count);\n"
+            + "        float next = mod(index + 1.0, count);\n"
+            + "        float wPrev = (full || index > 0.0) ? clamp(0.5 - t*dist / u_radii.w, 0.0, 0.5) : 0.0;\n"
+            + "        float wNext = (full || index < count - 1.0) ? clamp(0.5 - (u_angles.w - t)*dist / u_radii.w, 0.0, 0.5) : 0.0;\n"
+            + "        vec4 cur = vec4(0.0);\n"
+            + "        vec4 cPrev = vec4(0.0);\n"
+            + "        vec4 cNext = vec4(0.0);\n"
+            + "        for(int i = 0; i < MAX_SLICES; i++) {\n"
+            + "            float f = float(i);\n"
+            + "            if(f == index) cur = u_sliceColors[i];\n"
+            + "            if(f == prev) cPrev = u_sliceColors[i];\n"
+            + "            if(f == next) cNext = u_sliceColors[i];\n"
+            + "        }\n"
+            + "        vec4 slice = cur * (1.0 - wPrev - wNext) + cPrev * wPrev + cNext * wNext;\n"
+            + "        color = over(color, slice, coverage(ring) * wedge);\n"
+            + "\n"
+            + "        /* Circumferences */\n"
+            + "        float cw = u_widths.y;\n"
+            + "        if(cw > 0.0) {\n"
+            + "            float circ = coverage(min(dist - (u_radii.x - cw), u_radii.x - dist));\n"
+            + "            if(u_widths.z > 0.0)\n"
+            + "                circ = max(circ, coverage(min(dist - u_radii.y, u_radii.y + cw - dist)));\n"
+            + "            color = over(color, u_circumferenceColor, circ * wedge);\n"
+            + "        }\n"
+            + "\n"
+            + "        /* Separators */\n"
+            + "        if(u_widths.x > 0.0) {\n"
+            + "            float k = floor(angle / u_angles.w);\n"
+            + "            float sep = min(min(separator(k, dist), separator(k + 1.0, dist)),\n"
+            + "                            min(separator(0.0, dist), separator(count, dist)));\n"
+            + "            color = over(color, u_separatorColor, coverage(-sep));\n"
+            + "        }\n"
+            + "    }\n"
+            + "\n"
+            + "    color.rgb = color.rgb / max(color.a, 0.0001);\n"
+            + "    gl_FragColor = v_color * color * texture2D(u_texture, v_texCoords);\n"
+            + "}\n";
+
+
+    private static ShaderProgram program;
+    private static boolean failed = false;
+
+
+    /* For internal use (optimization). */
+    private static final float[] vertices = new float[PieWidgetGeometry.QUAD_SIZE];
+    private static final float[] sliceColors = new float[4 * MAX_SLICES];
+
+
+
+
+    private PieWidgetShader() {
+    }
+
+
+
+
+    /**
+     * Compiles the shader the first time it is needed.
+     *
+     * @return the shared {@link ShaderProgram}, or {@code null} if it failed to
+     *         compile.
+     */
+    public static ShaderProgram getProgram() {
+        if(program == null && !failed) {
+            program = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if(!program.isCompiled()) {
+                Gdx.app.error("PieWidgetShader", "Shader compilation failed, "
+                        + "falling back to tessellated geometry:\n" + program.getLog());
+                program.dispose();
+                program = null;
+                failed = true;
+            }
+        }
+        return program;
+    }
+
+    /**
+     * Releases the shared {@link ShaderProgram}. It will be compiled again if
+     * a widget needs it afterwards.
+     */
+    public static void dispose() {
+        if(program != null)
+            program.dispose();
+        program = null;
+        failed = false;
+    }
+
+    /**
+     * @param amountOfSlices how many slices would have to be drawn.
+     * @return {@code true} only if the shader is able to draw that many slices
+     *         and it compiled successfully.
+     */
+    public static boolean canDraw(int amountOfSlices) {
+        return amountOfSlices <= MAX_SLICES && getProgram() != null;
+    }
+
+    /**
+     * Draws the shapes of the widget as a single quad.<br>
+     * The {@link Batch} is flushed, since the uniforms are specific to the
+     * widget being drawn.
+     *
+     * @param batch where the quad is drawn.
+     * @param widget the widget whose shapes are drawn.
+     * @param transform maps the coordinates relative to the center of the
+     *                  widget to the coordinates of the Batch.
+     * @param degreesToDraw how many degrees from the offset should be drawn.
+     * @param pixelScale the amount of pixels per unit of the widget.
+     * @param colors the RGBA values of each color slot, as defined by
+     *               {@link PieWidgetGeometry}.
+     */
+    static void draw(Batch batch, PieWidget widget, Affine2 transform,
+                     float degreesToDraw, float pixelScale, float[] colors) {
+        float det = transform.det();
+        if(det == 0)
+            return;
+
+        ShaderProgram shader = getProgram();
+        int count = widget.getAmountOfSlices();
+        float radius = widget.getCurrentRadius();
+        float innerRadius = widget.getInnerRadiusLength();
+        float drawn = MathUtils.degreesToRadians * degreesToDraw;
+        PieWidget.PieWidgetStyle style = widget.getStyle();
+
+        ShaderProgram previous = batch.getShader();
+        batch.setShader(shader);
+
+        shader.setUniformf(shader.fetchUniformLocation("u_center", false), transform.m02, transform.m12);
+        shader.setUniformf(shader.fetchUniformLocation("u_inverse", false),
+                transform.m11 / det, -transform.m01 / det, -transform.m10 / det, transform.m00 / det);
+        shader.setUniformf(shader.fetchUniformLocation("u_radii", false),
+                radius, innerRadius,
+                style.backgroundColor == null ? 0 : radius - RadialGroup.BUFFER,
+                1 / pixelScale);
+        shader.setUniformf(shader.fetchUniformLocation("u_angles", false),
+                MathUtils.degreesToRadians * widget.getStartDegreesOffset(), drawn,
+                count, count == 0 ? 0 : drawn / count);
+        shader.setUniformf(shader.fetchUniformLocation("u_widths", false),
+                style.separatorColor == null ? 0 : style.separatorWidth,
+                style.circumferenceColor == null ? 0 : style.circumferenceWidth,
+                widget.getInnerRadiusPercent() > 0 ? 1 : 0, 0);
+        setColor(shader, "u_backgroundColor", colors, PieWidgetGeometry.SLOT_BACKGROUND);
+        setColor(shader, "u_circumferenceColor", colors, PieWidgetGeometry.SLOT_CIRCUMFERENCE);
+        setColor(shader, "u_separatorColor", colors, PieWidgetGeometry.SLOT_SEPARATOR);
+        if(count > 0) {
+            System.arraycopy(colors, 4 * PieWidgetGeometry.SLOT_FIRST_SLICE, sliceColors, 0, 4 * count);
+            shader.setUniform4fv(shader.fetchUniformLocation("u_sliceColors", false), sliceColors, 0, 4 * count);
+        }
+
+        /* The quad covers the whole widget, plus a pixel for the anti-aliasing. */
+        float half = radius + 1 / pixelScale;
+        TextureRegion region = widget.whitePixel;
+        float u = (region.getU() + region.getU2()) / 2;
+        float v = (region.getV() + region.getV2()) / 2;
+        float white = Color.WHITE_FLOAT_BITS;
+        int idx = 0;
+        for(int corner = 0; corner < 4; corner++) {
+            float lx = (corner == 0 || corner == 1) ? -half : half;
+            float ly = (corner == 0 || corner == 3) ? -half : half;
+            vertices[idx++] = transform.m00*lx + transform.m01*ly + transform.m02;
+            vertices[idx++] = transform.m10*lx + transform.m11*ly + transform.m12;
+            vertices[idx++] = white;
+            vertices[idx++] = u;
+            vertices[idx++] = v;
+        }
+        batch.draw(region.getTexture(), vertices, 0, idx);
+
+        batch.flush();
+        batch.setShader(previous);
+    }
+
+    private static void setColor(ShaderProgram shader, String name, float[] colors, int slot) {
+        shader.setUniformf(shader.fetchUniformLocation(name, false),
+                colors[4*slot], colors[4*slot + 1], colors[4*slot + 2], colors[4*slot + 3]);
+    }
+}
@@ -0,0 +1,288 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * The tessellated shapes of a {@link PieWidget}, for a given set of
+ * parameters: radii, offset, degrees drawn, amount of slices, resolution,
+ * {@link LevelOfDetail}, widths of the lines and which color slots are
+ * skipped or merged.<br>
+ * A template is immutable: widgets sharing the same parameters (such as a
+ * menu spawned for each selected unit) all reference the same instance, which
+ * is only tessellated once. Only the colors and the transform are specific to
+ * each widget, and are applied by its {@link PieWidgetGeometry}.<br>
+ * The most recently used templates are kept in a bounded cache: the least
+ * recently used one is forgotten when a new one is needed.
+ */
+final class PieWidgetTemplate {
+
+    /** The maximal amount of templates kept at any time. */
+    static final int MAX_TEMPLATES = 64;
+
+    private static final Map<Key, PieWidgetTemplate> templates = new LinkedHashMap<Key, PieWidgetTemplate>(MAX_TEMPLATES, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, PieWidgetTemplate> eldest) {
+            return size() > MAX_TEMPLATES;
+        }
+    };
+
+    /* For internal use (optimization). */
+    private static final Key lookup = new Key();
+
+    /** The parameters the shapes were built for. */
+    private final Key key;
+
+    /** The (x,y) positions of the 4 corners of each quad. */
+    final float[] positions;
+
+    /** For each primitive: its color slot, its first quad and its amount of quads. */
+    final int[] primitives;
+
+
+    private PieWidgetTemplate(Key key, float[] positions, int[] primitives) {
+        this.key = key;
+        this.positions = positions;
+        this.primitives = primitives;
+    }
+
+
+    /**
+     * @param runs which slots are skipped or merged, as found by
+     *             {@link PieWidgetGeometry#computeRuns(float[], int, boolean, IntArray)}.
+     * @return {@code true} only if the shapes were built with exactly those
+     *         parameters.
+     */
+    boolean matches(float radius, float innerRadius, float startDegreesOffset, float degreesDrawn,
+                    int amount, int resolution, LevelOfDetail levelOfDetail,
+                    float separatorWidth, float circumferenceWidth, IntArray runs) {
+        return key.equals(lookup.set(radius, innerRadius, startDegreesOffset, degreesDrawn,
+                amount, resolution, levelOfDetail, separatorWidth, circumferenceWidth, runs));
+    }
+
+    /**
+     * @return the shared template built with exactly those parameters, or
+     *         {@code null} if there is none.
+     */
+    static PieWidgetTemplate find(float radius, float innerRadius, float startDegreesOffset, float degreesDrawn,
+                                  int amount, int resolution, LevelOfDetail levelOfDetail, float separatorWidth,
+                                  float circumferenceWidth, IntArray runs) {
+        return templates.get(lookup.set(radius, innerRadius, startDegreesOffset, degreesDrawn,
+                amount, resolution, levelOfDetail, separatorWidth, circumferenceWidth, runs));
+    }
+
+    /**
+     * Makes the template available to the other widgets through
+     * {@link #find(float, float, float, float, int, int, LevelOfDetail, float, float, IntArray) find(...)}.
+     * Only templates whose shapes depend on nothing else than their
+     * parameters can be shared.
+     *
+     * @param template a template that was just built.
+     */
+    static void share(PieWidgetTemplate template) {
+        templates.put(template.key, template);
+    }
+
+    /** Forgets about all the shared templates. */
+    static void clear() {
+        templates.clear();
+    }
+
+    /** @return the amount of templates currently shared. */
+    static int size() {
+        return templates.size();
+    }
+
+
+
+
+    /**
+     * Tessellates the shapes of a template.<br>
+     * A single Builder can build any amount of templates, one after the other:
+     * {@link #begin(float, float, float, float, int, int, LevelOfDetail, float, float, IntArray) begin(...)},
+     * then the shapes, then {@link #build()}.
+     */
+    static final class Builder {
+        private final FloatArray positions = new FloatArray();
+        private final IntArray primitives = new IntArray();
+        private final Key key = new Key();
+
+        /**
+         * Removes all the shapes and remembers the parameters of the template
+         * that is about to be built.
+         */
+        void begin(float radius, float innerRadius, float startDegreesOffset, float degreesDrawn,
+                   int amount, int resolution, LevelOfDetail levelOfDetail,
+                   float separatorWidth, float circumferenceWidth, IntArray runs) {
+            positions.clear();
+            primitives.clear();
+            key.set(radius, innerRadius, startDegreesOffset, degreesDrawn,
+                    amount, resolution, levelOfDetail, separatorWidth, circumferenceWidth, runs);
+        }
+
+        /**
+         * Adds a ring portion in between two radii. Using an {@code innerRadius}
+         * of 0 results in a sector.
+         *
+         * @param slot the color slot used to draw this arc.
+         * @param innerRadius distance from the center at which the arc starts.
+         * @param outerRadius distance from the center at which the arc ends.
+         * @param startRadian angle at which the arc starts.
+         * @param radians the angle spanned by the arc.
+         * @param segments how many quads are used to approximate the arc.
+         */
+        void arc(int slot, float innerRadius, float outerRadius,
+                 float startRadian, float radians, int segments) {
+            beginPrimitive(slot);
+            float step = radians / segments;
+            float cos1 = MathUtils.cos(startRadian);
+            float sin1 = MathUtils.sin(startRadian);
+            for(int i = 1; i <= segments; i++) {
+                float angle = startRadian + i*step;
+                float cos2 = MathUtils.cos(angle);
+                float sin2 = MathUtils.sin(angle);
+                quad(innerRadius*cos1, innerRadius*sin1,
+                     outerRadius*cos1, outerRadius*sin1,
+                     outerRadius*cos2, outerRadius*sin2,
+                     innerRadius*cos2, innerRadius*sin2);
+                cos1 = cos2;
+                sin1 = sin2;
+            }
+            endPrimitive();
+        }
+
+        /**
+         * Adds a straight line.
+         *
+         * @param slot the color slot used to draw this line.
+         * @param width the thickness of the line.
+         */
+        void line(int slot, float x1, float y1, float x2, float y2, float width) {
+            beginPrimitive(slot);
+            float length = (float)Math.sqrt((x2-x1)*(x2-x1) + (y2-y1)*(y2-y1));
+            float nx = length == 0 ? 0 : -(y2-y1) / length * width/2;
+            float ny = length == 0 ? 0 :  (x2-x1) / length * width/2;
+            quad(x1-nx, y1-ny, x1+nx, y1+ny, x2+nx, y2+ny, x2-nx, y2-ny);
+            endPrimitive();
+        }
+
+        /**
+         * @return a new template holding the shapes added since the last
+         *         {@link #begin(float, float, float, float, int, int, LevelOfDetail, float, float, IntArray) begin(...)}.
+         */
+        PieWidgetTemplate build() {
+            return new PieWidgetTemplate(key.copy(), positions.toArray(), primitives.toArray());
+        }
+
+        private void beginPrimitive(int slot) {
+            primitives.add(slot);
+            primitives.add(positions.size / 8);
+            primitives.add(0);
+        }
+
+        private void endPrimitive() {
+            int last = primitives.size - 1;
+            primitives.set(last, positions.size/8 - primitives.get(last - 1));
+        }
+
+        private void quad(float x1, float y1, float x2, float y2,
+                          float x3, float y3, float x4, float y4) {
+            positions.add(x1, y1, x2, y2);
+            positions.add(x3, y3, x4, y4);
+        }
+    }
+
+
+
+
+    private static final class Key {
+        private float radius;
+        private float innerRadius;
+        private float startDegreesOffset;
+        private float degreesDrawn;
+        private int amount;
+        private int resolution;
+        private LevelOfDetail levelOfDetail;
+        private float separatorWidth;
+        private float circumferenceWidth;
+        private int[] runs = new int[0];
+        private int runsSize;
+
+        Key set(float radius, float innerRadius, float startDegreesOffset, float degreesDrawn,
+                int amount, int resolution, LevelOfDetail levelOfDetail,
+                float separatorWidth, float circumferenceWidth, IntArray runs) {
+            this.radius = radius;
+            this.innerRadius = innerRadius;
+            this.startDegreesOffset = startDegreesOffset;
+            this.degreesDrawn = degreesDrawn;
+            this.amount = amount;
+            this.resolution = resolution;
+            this.levelOfDetail = levelOfDetail;
+            this.separatorWidth = separatorWidth;
+            this.circumferenceWidth = circumferenceWidth;
+            this.runs = runs.items;
+            this.runsSize = runs.size;
+            return this;
+        }
+
+        Key copy() {
+            Key copy = new Key();
+            copy.radius = radius;
+            copy.innerRadius = innerRadius;
+            copy.startDegreesOffset = startDegreesOffset;
+            copy.degreesDrawn = degreesDrawn;
+            copy.amount = amount;
+            copy.resolution = resolution;
+            copy.levelOfDetail = levelOfDetail;
+            copy.separatorWidth = separatorWidth;
+            copy.circumferenceWidth = circumferenceWidth;
+            copy.runs = Arrays.copyOf(runs, runsSize);
+            copy.runsSize = runsSize;
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Key))
+                return false;
+            Key other = (Key)o;
+            if(amount != other.amount
+                    || resolution != other.resolution
+                    || levelOfDetail != other.levelOfDetail
+                    || runsSize != other.runsSize
+                    || Float.floatToIntBits(radius) != Float.floatToIntBits(other.radius)
+                    || Float.floatToIntBits(innerRadius) != Float.floatToIntBits(other.innerRadius)
+                    || Float.floatToIntBits(startDegreesOffset) != Float.floatToIntBits(other.startDegreesOffset)
+                    || Float.floatToIntBits(degreesDrawn) != Float.floatToIntBits(other.degreesDrawn)
+                    || Float.floatToIntBits(separatorWidth) != Float.floatToIntBits(other.separatorWidth)
+                    || Float.floatToIntBits(circumferenceWidth) != Float.floatToIntBits(other.circumferenceWidth))
+                return false;
+            for(int i = 0; i < runsSize; i++)
+                if(runs[i] != other.runs[i])
+                    return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = amount;
+            hash = 31*hash + resolution;
+            hash = 31*hash + System.identityHashCode(levelOfDetail);
+            hash = 31*hash + Float.floatToIntBits(radius);
+            hash = 31*hash + Float.floatToIntBits(innerRadius);
+            hash = 31*hash + Float.floatToIntBits(startDegreesOffset);
+            hash = 31*hash + Float.floatToIntBits(degreesDrawn);
+            hash = 31*hash + Float.floatToIntBits(separatorWidth);
+            hash = 31*hash + Float.floatToIntBits(circumferenceWidth);
+            for(int i = 0; i < runsSize; i++)
+                hash = 31*hash + runs[i];
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+
+/**
+ * Holds the shapes of a {@link PieWidget} rendered into a {@link FrameBuffer},
+ * so that they can be drawn as a single textured quad.<br>
+ * The texture is rendered without any rotation: rotating (or moving) the
+ * widget only transforms the quad. It is rendered again whenever the radius,
+ * the inner radius, the offset, the amount of degrees drawn, the amount of
+ * children or the amount of pixels per unit change, or after
+ * {@link #invalidate()}.<br>
+ * The content of the texture has premultiplied alpha.<br>
+ * Rendering it binds the default framebuffer once done: widgets that are
+ * drawn into a {@link FrameBuffer} of your own are not supported.
+ */
+class PieWidgetTexture {
+
+    private FrameBuffer frameBuffer;
+    private final TextureRegion region = new TextureRegion();
+
+    /* Parameters the texture was rendered for. */
+    private boolean baked = false;
+    private float radius;
+    private float innerRadius;
+    private float startDegreesOffset;
+    private float degreesDrawn;
+    private int amount;
+    private float pixelScale;
+
+    /** Half the size of the quad, in the widget's units. */
+    private float halfSize;
+
+
+    /* Shared among all the instances. */
+    private static final Matrix4 projection = new Matrix4();
+    private static final Matrix4 savedProjection = new Matrix4();
+    private static final Matrix4 savedTransform = new Matrix4();
+    private static final Affine2 corner = new Affine2();
+    private static final Affine2 identity = new Affine2();
+
+
+
+
+    /**
+     * @return {@code true} only if the texture was rendered with exactly those
+     *         parameters and has not been {@link #invalidate() invalidated} since.
+     */
+    boolean isBakedFor(float radius, float innerRadius, float startDegreesOffset,
+                       float degreesDrawn, int amount, float pixelScale) {
+        return baked
+                && this.radius == radius
+                && this.innerRadius == innerRadius
+                && this.startDegreesOffset == startDegreesOffset
+                && this.degreesDrawn == degreesDrawn
+                && this.amount == amount
+                && this.pixelScale == pixelScale;
+    }
+
+    /** Forces the texture to be rendered again the next time it is needed. */
+    void invalidate() {
+        baked = false;
+    }
+
+    /**
+     * Renders the geometry into the {@link FrameBuffer}, creating it first
+     * if there was none of the right size.<br>
+     * The given {@link Batch} is used for the rendering: its projection and
+     * transform matrices, its shader and its blending are restored
+     * afterwards, and so is the scissor test.
+     *
+     * @param batch the Batch currently used to draw the widget.
+     * @param viewport the viewport to be applied once the rendering is done.
+     *                 If {@code null}, the whole screen is used.
+     * @param geometry the shapes to be rendered.
+     * @param whitePixel the white pixel that is used as a texture.
+     * @param slotColors the packed color of each color slot.
+     */
+    void bake(Batch batch, Viewport viewport, PieWidgetGeometry geometry, TextureRegion whitePixel,
+              float[] slotColors, float radius, float innerRadius, float startDegreesOffset,
+              float degreesDrawn, int amount, float pixelScale) {
+        this.radius = radius;
+        this.innerRadius = innerRadius;
+        this.startDegreesOffset = startDegreesOffset;
+        this.degreesDrawn = degreesDrawn;
+        this.amount = amount;
+        this.pixelScale = pixelScale;
+        baked = true;
+
+        /* One extra pixel on each side for the edges. */
+        halfSize = radius + 1 / pixelScale;
+        int size = Math.max(1, MathUtils.ceil(2 * halfSize * pixelScale));
+        if(frameBuffer == null || frameBuffer.getWidth() != size) {
+            dispose();
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, size, size, false);
+        }
+
+        /* Saving the state of the Batch. */
+        boolean drawing = batch.isDrawing();
+        if(drawing)
+            batch.flush();
+        else
+            batch.begin();
+        savedProjection.set(batch.getProjectionMatrix());
+        savedTransform.set(batch.getTransformMatrix());
+        ShaderProgram shader = batch.getShader();
+        boolean blending = batch.isBlendingEnabled();
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+        int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+        boolean scissors = Gdx.gl.glIsEnabled(GL20.GL_SCISSOR_TEST);
+        if(scissors)
+            Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setShader(null);
+        batch.setProjectionMatrix(projection.setToOrtho2D(-halfSize, -halfSize, 2*halfSize, 2*halfSize));
+        batch.setTransformMatrix(projection.idt());
+        batch.enableBlending();
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        geometry.draw(batch, whitePixel, slotColors, identity);
+        batch.flush();
+        frameBuffer.end();
+        if(viewport != null)
+            viewport.apply();
+
+        /* Restoring the state of the Batch. */
+        if(scissors)
+            Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+        batch.setShader(shader);
+        batch.setProjectionMatrix(savedProjection);
+        batch.setTransformMatrix(savedTransform);
+        batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+        if(!blending)
+            batch.disableBlending();
+        if(!drawing)
+            batch.end();
+
+        region.setRegion(frameBuffer.getColorBufferTexture());
+        region.flip(false, true);
+    }
+
+    /**
+     * Draws the texture as a quad centered on the widget.
+     *
+     * @param batch where the quad is drawn.
+     * @param transform maps the coordinates relative to the center of the
+     *                  widget to the coordinates of the Batch.
+     */
+    void draw(Batch batch, Affine2 transform) {
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+        int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+        float color = batch.getPackedColor();
+
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+        batch.draw(region, 2*halfSize, 2*halfSize, corner.set(transform).translate(-halfSize, -halfSize));
+
+        batch.setPackedColor(color);
+        batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+    }
+
+    /** Releases the {@link FrameBuffer}, if there is one. */
+    void dispose() {
+        if(frameBuffer != null)
+            frameBuffer.dispose();
+        frameBuffer = null;
+        baked = false;
+    }
+}
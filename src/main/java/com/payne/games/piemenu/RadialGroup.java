@@ -1,6 +1,7 @@
 package com.payne.games.piemenu;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -8,6 +9,10 @@ import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectFloatMap;
 import com.payne.games.piemenu.PieWidget.PieWidgetStyle;
 import space.earlygrey.shapedrawer.ShapeDrawer;
 
@@ -79,12 +84,120 @@ public class RadialGroup extends WidgetGroup {
      */
     protected float globalAlphaMultiplier = 1;
 
+    /**
+     * <b>Defaults to {@code true}.</b><br>
+     * Determines whether a {@link #layout()} only repositions the children
+     * whose placement actually changed. A child is left untouched if its
+     * index, the amount of degrees per child, its
+     * {@link #getActorDistanceFromCenter(Actor) distance from the center},
+     * the {@link #startDegreesOffset}, the size of the widget, its
+     * {@link #getCurrentRadius() radius} and
+     * {@link #getInnerRadiusLength() inner radius}, as well as its own
+     * position and size are all the same as after its last placement.
+     * <br>
+     * If your {@link #modifyActor(Actor, float, float)} depends on anything
+     * else, call {@link #invalidatePlacements()} whenever it changes, or set
+     * this flag to {@code false}.
+     */
+    protected boolean incrementalLayout = true;
+
+    /**
+     * <b>Defaults to {@code false}.</b><br>
+     * Determines whether the widget acts as a layout boundary. The size it
+     * asks from its parent is then frozen to the {@link #preferredRadius} it
+     * had when this flag was set (see {@link #getBoundaryRadius()}): changing
+     * the {@link #preferredRadius} afterwards (to animate it, for example)
+     * only scales the content of the widget within those fixed bounds, and
+     * neither a change of radius nor of children invalidates the parents.
+     * <br>
+     * The {@link #preferredRadius} should then not go beyond the
+     * {@link #getBoundaryRadius() boundary radius}, otherwise the content is
+     * drawn outside of the bounds of the widget.
+     */
+    protected boolean layoutBoundary = false;
+
+    /**
+     * <b>Defaults to {@code false}.</b><br>
+     * Determines whether the children (and their own descendants) are
+     * assumed to lie within their bounds. {@link #hit(float, float, boolean)}
+     * then skips, without any coordinate conversion, the children whose
+     * bounds cannot contain the point. The children are still tested in
+     * order: only the skipped ones are affected.<br>
+     * Regardless of this flag, children lying within their own slice are
+     * only tested if the point is within that slice. Groups are only
+     * considered for this if the flag is set.<br>
+     * Only set it to {@code true} if none of your children have descendants
+     * that extend beyond their bounds and must remain hittable there.
+     */
+    protected boolean childrenWithinBounds = false;
+
+    /**
+     * <b>Defaults to {@code false}.</b><br>
+     * Determines whether the slice under a coordinate is found from the
+     * angle of that coordinate (with {@link MathUtils#atan2(float, float)}
+     * and {@link #normalizeAngle(float)}) and {@link #findIndexFromAngle(float)}.
+     * <br>
+     * By default, the coordinate is instead compared to precomputed vectors
+     * along the boundaries of the slices, through cross products: no
+     * trigonometry is involved, and the result can only differ within the
+     * approximation of {@link MathUtils#atan2(float, float)} (a fraction of
+     * a degree) from a boundary.<br>
+     * If you override {@link #findIndexFromAngle(float)} to change how the
+     * slices are found, set this flag (or override {@link #isExactHitAngles()},
+     * as {@link RingPieMenu} does): otherwise, your override is not used to
+     * find the slice under a coordinate.
+     */
+    protected boolean exactHitAngles = false;
+
+    /**
+     * The angular weight of the children that were given one through
+     * {@link #setWeight(Actor, float)}. The others have a weight of {@code 1}.
+     * <br>
+     * Each slice spans a share of the {@link #totalDegreesDrawn} proportional
+     * to the weight of its child.
+     */
+    private final ObjectFloatMap<Actor> weights = new ObjectFloatMap<>();
+
 
     /* For internal use (optimization). */
     private float lastRadius = 0;
+    private float boundaryRadius;
     protected static final float BUFFER = 1;
     protected static final float HALF = .5f;
     private static final Vector2 vector2 = new Vector2();
+    private final Array<Actor> placedActors = new Array<>();
+    private final FloatArray placements = new FloatArray();
+    private static final int PLACEMENT_SIZE = 11;
+    private final Array<Actor> hiddenChildren = new Array<>();
+    private final Array<Actor> hitFilterActors = new Array<>(); // per child: itself if it lies within its own slice
+    private final IntArray hitFallbacks = new IntArray(); // the indices of the other children
+    private final FloatArray hitFilters = new FloatArray();
+    private static final int HIT_FILTER_SIZE = 8;
+    private static final float HIT_MARGIN = .01f; // in units, and in degrees
+    private boolean hitFiltersValid = false;
+    private final Affine2 localToStage = new Affine2();
+    private final Affine2 stageToLocal = new Affine2();
+    private final Array<Actor> transformChain = new Array<>();
+    private final FloatArray transformStates = new FloatArray();
+    private boolean stageTransformsChecked = false; // until the next act()
+    private static final int TRANSFORM_STATE_SIZE = 7;
+    private static final Affine2 tmpTransform = new Affine2();
+    private float[] boundaries = new float[0];
+    private int[] boundaryBuckets = new int[0];
+    private boolean boundariesValid = false;
+    private float boundariesOffset;
+    private float boundariesDegrees;
+    private int boundariesAmount;
+    private float offsetCos, offsetSin;
+    private static final int BUCKETS_PER_QUADRANT = 2;
+    private int updateDepth = 0;
+    private boolean hierarchyInvalidated = false;
+    private final FloatArray sliceStarts = new FloatArray(); // prefix sums of the weights, normalized
+    private boolean slicesValid = false;
+    private float[] weightedAngles = new float[0];
+    private boolean weightedAnglesValid = false;
+    private float weightedAnglesOffset;
+    private float weightedAnglesDegrees;
 
 
 
@@ -101,8 +214,7 @@ public class RadialGroup extends WidgetGroup {
      *                        size of the widget.
      */
     public RadialGroup(float preferredRadius) {
-        setPreferredRadius(preferredRadius);
-        constructorsCommon();
+        this(preferredRadius, 0);
     }
 
     /**
@@ -115,8 +227,7 @@ public class RadialGroup extends WidgetGroup {
      *                           starting from the center of the widget.
      */
     public RadialGroup(float preferredRadius, float innerRadiusPercent) {
-        this(preferredRadius);
-        setInnerRadiusPercent(innerRadiusPercent);
+        this(preferredRadius, innerRadiusPercent, 0);
     }
 
     /**
@@ -132,8 +243,7 @@ public class RadialGroup extends WidgetGroup {
      */
     public RadialGroup(float preferredRadius, float innerRadiusPercent,
                        float startDegreesOffset) {
-        this(preferredRadius, innerRadiusPercent);
-        setStartDegreesOffset(startDegreesOffset);
+        this(preferredRadius, innerRadiusPercent, startDegreesOffset, 360);
     }
 
     /**
@@ -152,8 +262,8 @@ public class RadialGroup extends WidgetGroup {
      */
     public RadialGroup(float preferredRadius, float innerRadiusPercent,
                        float startDegreesOffset, float totalDegreesDrawn) {
-        this(preferredRadius, innerRadiusPercent, startDegreesOffset);
-        setTotalDegreesDrawn(totalDegreesDrawn);
+        configure(preferredRadius, innerRadiusPercent, startDegreesOffset, totalDegreesDrawn);
+        constructorsCommon();
     }
 
 
@@ -169,10 +279,13 @@ public class RadialGroup extends WidgetGroup {
      * The current diameter of the widget.<br>
      * This might not be twice the {@link #preferredRadius}.
      *
-     * @return {@code Math.min(getWidth(), getHeight())}
+     * @return {@code Math.min(getWidth(), getHeight())}, scaled by
+     *         {@code preferredRadius / getBoundaryRadius()} if the widget is a
+     *         {@link #layoutBoundary}.
      */
     protected float getCurrentDiameter() {
-        return Math.min(getWidth(), getHeight());
+        float diameter = Math.min(getWidth(), getHeight());
+        return layoutBoundary ? diameter * preferredRadius / boundaryRadius : diameter;
     }
 
     /**
@@ -187,22 +300,22 @@ public class RadialGroup extends WidgetGroup {
 
     @Override
     public float getPrefWidth() {
-        return getCurrentDiameter();
+        return Math.min(getWidth(), getHeight());
     }
 
     @Override
     public float getPrefHeight() {
-        return getCurrentDiameter();
+        return Math.min(getWidth(), getHeight());
     }
 
     @Override
     public float getMinWidth() {
-        return preferredRadius * 2;
+        return getBoundaryRadius() * 2;
     }
 
     @Override
     public float getMinHeight() {
-        return preferredRadius * 2;
+        return getBoundaryRadius() * 2;
     }
 
     @Override
@@ -222,6 +335,204 @@ public class RadialGroup extends WidgetGroup {
         return wasRemoved;
     }
 
+    /**
+     * Adds all the given Actors, in order, with a single invalidation.
+     *
+     * @param actors the Actors to be added. None of them can be {@code null}.
+     */
+    public void addActors(Actor... actors) {
+        checkActors(actors);
+        beginUpdate();
+        try {
+            for(Actor actor : actors)
+                super.addActor(actor);
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Adds all the given Actors, in order, with a single invalidation.
+     *
+     * @param actors the Actors to be added. None of them can be {@code null}.
+     */
+    public void addActors(Array<? extends Actor> actors) {
+        addActors(actors.toArray(Actor.class));
+    }
+
+    /**
+     * Removes all the children, then adds all the given Actors, in order, with
+     * a single invalidation.
+     *
+     * @param actors the new children. None of them can be {@code null}.
+     */
+    public void clearAndAddActors(Actor... actors) {
+        checkActors(actors);
+        beginUpdate();
+        try {
+            clearChildren();
+            for(Actor actor : actors)
+                super.addActor(actor);
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Makes the given Actors the children of this widget, in that order,
+     * with a single invalidation.<br>
+     * Unlike {@link #clearAndAddActors(Actor...)}, the Actors that already
+     * are children of this widget are only reordered: they are not removed
+     * and added back (which would, for example, make them lose the focus).
+     *
+     * @param actors the new children. None of them can be {@code null}.
+     */
+    public void setActors(Actor... actors) {
+        checkActors(actors);
+        beginUpdate();
+        try {
+            for(int i = getChildren().size - 1; i >= 0; i--) {
+                Actor child = getChildren().get(i);
+                boolean kept = false;
+                for(Actor actor : actors) {
+                    if(actor == child) {
+                        kept = true;
+                        break;
+                    }
+                }
+                if(!kept)
+                    super.removeActor(child);
+            }
+            for(int i = 0; i < actors.length; i++) {
+                if(actors[i].getParent() == this)
+                    actors[i].setZIndex(i);
+                else
+                    addActorAt(i, actors[i]);
+            }
+        } finally {
+            endUpdate();
+        }
+    }
+
+    private void checkActors(Actor... actors) {
+        if(actors == null)
+            throw new IllegalArgumentException("actors cannot be null.");
+        for(Actor actor : actors)
+            if(actor == null)
+                throw new IllegalArgumentException("actors cannot contain null.");
+    }
+
+    /**
+     * Applies all the properties that define the shape of the widget at once.
+     * <br>
+     * All the values are validated before any of them is applied: if one of
+     * them is invalid, the widget is left untouched. The size is then updated
+     * a single time, and the widget is invalidated a single time (instead of
+     * once per setter).
+     *
+     * @param preferredRadius see {@link #setPreferredRadius(float)}.
+     * @param innerRadiusPercent see {@link #setInnerRadiusPercent(float)}.
+     * @param startDegreesOffset see {@link #setStartDegreesOffset(float)}.
+     * @param totalDegreesDrawn see {@link #setTotalDegreesDrawn(float)}.
+     */
+    public void configure(float preferredRadius, float innerRadiusPercent,
+                          float startDegreesOffset, float totalDegreesDrawn) {
+        checkPreferredRadius(preferredRadius);
+        checkInnerRadiusPercent(innerRadiusPercent);
+        checkStartDegreesOffset(startDegreesOffset);
+        checkTotalDegreesDrawn(totalDegreesDrawn);
+
+        boolean changed = this.innerRadiusPercent != innerRadiusPercent
+                || this.startDegreesOffset != startDegreesOffset
+                || this.totalDegreesDrawn != totalDegreesDrawn;
+        this.innerRadiusPercent = innerRadiusPercent;
+        this.startDegreesOffset = startDegreesOffset;
+        this.totalDegreesDrawn = totalDegreesDrawn;
+
+        if(preferredRadius != lastRadius)
+            radiusChanged(preferredRadius);
+        else if(changed)
+            invalidate();
+    }
+
+    /**
+     * Starts a batch of modifications: until the matching {@link #endUpdate()},
+     * changes to the children (and to the properties of the widget) do not
+     * invalidate the parents of the widget. The whole batch then results in a
+     * single invalidation.<br>
+     * Calls can be nested: only the outermost {@link #endUpdate()} invalidates.
+     * <pre>
+     * {@code
+     * menu.beginUpdate();
+     * for(Item item : items)
+     *     menu.addActor(createActor(item));
+     * menu.setPreferredRadius(items.size * 10);
+     * menu.endUpdate();
+     * }
+     * </pre>
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Ends a batch of modifications started with {@link #beginUpdate()}.
+     */
+    public void endUpdate() {
+        if(updateDepth == 0)
+            throw new IllegalStateException("endUpdate() called without a matching beginUpdate().");
+        updateDepth--;
+        if(updateDepth == 0 && hierarchyInvalidated) {
+            hierarchyInvalidated = false;
+            invalidateHierarchy();
+        }
+    }
+
+    /**
+     * @return {@code true} only if in between a {@link #beginUpdate()} and
+     *         its matching {@link #endUpdate()}.
+     */
+    public boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        hitFiltersValid = false;
+        stageTransformsChecked = false;
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        if(hitFiltersValid && haveFilteredChildrenMoved())
+            hitFiltersValid = false;
+        stageTransformsChecked = false;
+    }
+
+    @Override
+    protected void setParent(Group parent) {
+        super.setParent(parent);
+        transformChain.clear(); // not holding on to the former ancestors
+        transformStates.clear();
+        stageTransformsChecked = false;
+    }
+
+    @Override
+    public void invalidateHierarchy() {
+        if(layoutBoundary) {
+            invalidate(); // the size asked from the parent cannot have changed
+            return;
+        }
+        if(updateDepth > 0) {
+            invalidate();
+            hierarchyInvalidated = true;
+            return;
+        }
+        super.invalidateHierarchy();
+    }
+
     /**
      * Determines how far from the center the contained child Actors should be.
      * By default, the value is {@code (getMaxRadius() + getInnerRadiusLength())/2}.<br>
@@ -273,6 +584,7 @@ public class RadialGroup extends WidgetGroup {
      * </pre>
      *
      * @see #getEstimatedRadiusAt(float, float)
+     * @see #invalidatePlacements()
      * @param actor the Actor whose size is to be adjusted.
      * @param degreesPerChild the amount of degrees that a child's sector takes.
      * @param actorDistanceFromCenter the distance at which the child Actor is
@@ -317,21 +629,158 @@ public class RadialGroup extends WidgetGroup {
     public void layout() {
         updateOrigin(); // for rotations to happen around the actual center
 
-        float degreesPerChild = totalDegreesDrawn / getAmountOfChildren();
+        float[] angles = obtainAngles(totalDegreesDrawn, true);
+
+        int placed = getAmountOfPlacedChildren();
+        for (int i = 0; i < placed; i++)
+            placeActor(i, getSliceDegrees(i, totalDegreesDrawn), angles);
+        finishLayout(placed);
+    }
 
-        for (int i = 0; i < getAmountOfChildren(); i++) {
-            Actor actor = getChildren().get(i);
-            float dist = getActorDistanceFromCenter(actor);
+    /**
+     * Ends a layout in which the given amount of children were placed.
+     *
+     * @param placed the amount of children that were just laid out.
+     */
+    void finishLayout(int placed) {
+        forgetPlacementsAfter(placed);
+        hideChildrenAfter(placed);
+        hitFiltersValid = false; // the children may have moved
+    }
+
+    /**
+     * There can be fewer slices than children (for example when a
+     * {@link PieWidget} is given {@link PieWidget#getSliceContents() slice
+     * contents}): only the children that have a slice of their own are laid
+     * out, and the others are hidden until they get one.
+     *
+     * @return the amount of children that are laid out in a slice.
+     */
+    int getAmountOfPlacedChildren() {
+        return Math.min(getAmountOfChildren(), getAmountOfSlices());
+    }
+
+    /**
+     * Hides the children beyond the given amount, and shows back the ones
+     * that were hidden that way but are now within that amount.
+     *
+     * @param amount the amount of children that were just laid out.
+     */
+    void hideChildrenAfter(int amount) {
+        Array<Actor> children = getChildren();
+        for(int i = hiddenChildren.size - 1; i >= 0; i--) {
+            Actor actor = hiddenChildren.get(i);
+            int index = actor.getParent() == this ? children.indexOf(actor, true) : -1;
+            if(index < amount) {
+                hiddenChildren.removeIndex(i);
+                actor.setVisible(true);
+            }
+        }
+        for(int i = amount; i < children.size; i++) {
+            Actor actor = children.get(i);
+            if(actor.isVisible()) {
+                actor.setVisible(false);
+                hiddenChildren.add(actor);
+            }
+        }
+    }
+
+    /**
+     * Positions the child at the given index within its slice, unless the
+     * {@link #incrementalLayout} flag is set and nothing that its placement
+     * depends on changed since the last time it was placed.
+     *
+     * @param index index of the child to be placed.
+     * @param degreesPerChild the amount of degrees that a child's sector takes.
+     * @param angles the unit vectors pointing at the middle of each slice, as
+     *               provided by {@link #obtainAngles(float, boolean)}. If
+     *               {@code null}, the angle is computed (which assumes that
+     *               the slices are not {@link #isWeighted() weighted}).
+     * @return {@code true} only if the child was actually placed.
+     */
+    boolean placeActor(int index, float degreesPerChild, float[] angles) {
+        Actor actor = getChildren().get(index);
+        float dist = getSliceDistanceFromCenter(index, actor);
+        int p = index * PLACEMENT_SIZE;
+        if(incrementalLayout && index < placedActors.size && placedActors.get(index) == actor) {
+            float[] placement = placements.items;
+            if(placement[p]   == degreesPerChild
+            && placement[p+1] == dist
+            && placement[p+2] == startDegreesOffset
+            && placement[p+3] == getWidth()
+            && placement[p+4] == getHeight()
+            && placement[p+5] == actor.getX()
+            && placement[p+6] == actor.getY()
+            && placement[p+7] == actor.getWidth()
+            && placement[p+8] == actor.getHeight()
+            && placement[p+9] == getCurrentRadius()
+            && placement[p+10] == getInnerRadiusLength())
+                return false;
+        }
+
+        if(angles != null)
+            vector2.set(dist * angles[2*index], dist * angles[2*index + 1]);
+        else {
             vector2.set(dist, 0);
-            vector2.rotate(degreesPerChild*(i + HALF) + startDegreesOffset);
-            modifyActor(actor, degreesPerChild, dist); // overridden by user
-            actor.setPosition(vector2.x + getWidth()/2, vector2.y + getHeight()/2, Align.center);
+            vector2.rotate(degreesPerChild*(index + HALF) + startDegreesOffset);
+        }
+        modifyActor(actor, degreesPerChild, dist); // overridden by user
+        actor.setPosition(vector2.x + getWidth()/2, vector2.y + getHeight()/2, Align.center);
+
+        /* Remembering the inputs and the outcome of the placement. */
+        if(placedActors.size <= index) {
+            placedActors.setSize(index + 1);
+            placements.setSize(p + PLACEMENT_SIZE);
+        }
+        placedActors.set(index, actor);
+        float[] placement = placements.items;
+        placement[p]   = degreesPerChild;
+        placement[p+1] = dist;
+        placement[p+2] = startDegreesOffset;
+        placement[p+3] = getWidth();
+        placement[p+4] = getHeight();
+        placement[p+5] = actor.getX();
+        placement[p+6] = actor.getY();
+        placement[p+7] = actor.getWidth();
+        placement[p+8] = actor.getHeight();
+        placement[p+9] = getCurrentRadius();
+        placement[p+10] = getInnerRadiusLength();
+        return true;
+    }
+
+    /**
+     * Forces the next {@link #layout()} to place every child again, even
+     * with the {@link #incrementalLayout} flag set.<br>
+     * Call it whenever something that your
+     * {@link #modifyActor(Actor, float, float)} depends on changes, if it
+     * isn't one of the inputs listed by {@link #incrementalLayout}.
+     */
+    public void invalidatePlacements() {
+        forgetPlacementsAfter(0);
+        invalidate();
+    }
+
+    /**
+     * Forgets about the placement of the children beyond the given amount.
+     *
+     * @param amount the amount of children that were just laid out.
+     */
+    void forgetPlacementsAfter(int amount) {
+        if(placedActors.size > amount) {
+            placedActors.truncate(amount);
+            placements.truncate(amount * PLACEMENT_SIZE);
         }
     }
 
     @Override
     protected void positionChanged() {
         updateOrigin();
+        stageTransformsChecked = false;
+    }
+
+    @Override
+    protected void rotationChanged() {
+        stageTransformsChecked = false;
     }
 
     /**
@@ -355,18 +804,35 @@ public class RadialGroup extends WidgetGroup {
         if (touchable && getTouchable() == Touchable.disabled) return null;
         if (!isVisible()) return null;
 
-        /* Checking all children first to catch the ones extending beyond the widget. */
-        for (Actor child : getChildren()) {
-            if(child.getTouchable() == Touchable.disabled)
-                continue;
-            child.parentToLocalCoordinates(vector2.set(x,y));
-            Actor hit = child.hit(vector2.x, vector2.y, touchable);
-            if(hit != null)
-                return hit;
+        /* Checking the children first to catch the ones extending beyond the widget.
+         * Those lying within their own slice can only be hit from that slice. */
+        if(!hitFiltersValid)
+            updateHitFilters();
+        Array<Actor> children = getChildren();
+        int candidate = -1;
+        if(hitFallbacks.size < children.size) {
+            int slice = findSliceAtLocal(x - getWidth()/2, y - getHeight()/2);
+            if(slice >= 0 && slice < hitFilterActors.size && hitFilterActors.get(slice) != null)
+                candidate = slice;
+        }
+        int[] fallbacks = hitFallbacks.items;
+        for(int f = 0; f <= hitFallbacks.size; f++) {
+            int index = f < hitFallbacks.size ? fallbacks[f] : children.size;
+            if(candidate != -1 && candidate < index) { // keeping the order of the children
+                Actor hit = hitChild(children.get(candidate), x, y, touchable);
+                if(hit != null)
+                    return hit;
+                candidate = -1;
+            }
+            if(index < children.size) {
+                Actor hit = hitChild(children.get(index), x, y, touchable);
+                if(hit != null)
+                    return hit;
+            }
         }
 
         /* Then we want to consider the widget's boundaries itself. */
-        localToStageCoordinates(vector2.set(x,y));
+        getLocalToStageTransform().applyTo(vector2.set(x,y));
         int childIndex = findChildIndexAtStage(vector2.x,vector2.y);
         if(isValidIndex(childIndex))
             return this;
@@ -378,6 +844,137 @@ public class RadialGroup extends WidgetGroup {
         return null;
     }
 
+    /**
+     * @param x x-coordinate relative to the bottom-left of the widget.
+     * @param y y-coordinate relative to the bottom-left of the widget.
+     * @return the deepest hit of the child at (x,y), or {@code null}.
+     */
+    private Actor hitChild(Actor child, float x, float y, boolean touchable) {
+        if(child.getTouchable() == Touchable.disabled)
+            return null;
+        if(childrenWithinBounds && !isWithinBoundingCircle(child, x, y))
+            return null;
+        child.parentToLocalCoordinates(vector2.set(x,y));
+        return child.hit(vector2.x, vector2.y, touchable);
+    }
+
+    /**
+     * Finds which of the children lie within their own slice: as long as they
+     * don't move, {@link #hit(float, float, boolean)} only tests them if the
+     * point is within that slice. The other children are always tested.<br>
+     * This is done again after each {@link #layout()} and whenever the widget
+     * is {@link #invalidate() invalidated}. Children moved by other means
+     * (through an {@link com.badlogic.gdx.scenes.scene2d.Action Action}, for
+     * example) are noticed on the next {@link #act(float)}.
+     */
+    private void updateHitFilters() {
+        hitFiltersValid = true;
+        Array<Actor> children = getChildren();
+        int placed = getAmountOfPlacedChildren();
+        hitFilterActors.clear();
+        hitFallbacks.clear();
+        hitFilters.setSize(placed * HIT_FILTER_SIZE);
+        float[] filter = hitFilters.items;
+        for(int i = 0; i < children.size; i++) {
+            Actor child = children.get(i);
+            if(i >= placed || !isBoundingCircleWithinSlice(i, child)) {
+                hitFilterActors.add(null);
+                hitFallbacks.add(i);
+                continue;
+            }
+            hitFilterActors.add(child);
+            int f = i * HIT_FILTER_SIZE;
+            filter[f]   = child.getX();
+            filter[f+1] = child.getY();
+            filter[f+2] = child.getWidth();
+            filter[f+3] = child.getHeight();
+            filter[f+4] = child.getOriginX();
+            filter[f+5] = child.getOriginY();
+            filter[f+6] = child.getScaleX();
+            filter[f+7] = child.getScaleY();
+        }
+    }
+
+    /**
+     * @return {@code true} only if one of the children found to lie within
+     *         their own slice moved (or was swapped with another) since.
+     */
+    private boolean haveFilteredChildrenMoved() {
+        Array<Actor> children = getChildren();
+        float[] filter = hitFilters.items;
+        for(int i = 0; i < hitFilterActors.size; i++) {
+            Actor child = hitFilterActors.get(i);
+            if(child == null)
+                continue;
+            int f = i * HIT_FILTER_SIZE;
+            if(i >= children.size || children.get(i) != child
+                    || filter[f]   != child.getX()
+                    || filter[f+1] != child.getY()
+                    || filter[f+2] != child.getWidth()
+                    || filter[f+3] != child.getHeight()
+                    || filter[f+4] != child.getOriginX()
+                    || filter[f+5] != child.getOriginY()
+                    || filter[f+6] != child.getScaleX()
+                    || filter[f+7] != child.getScaleY())
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Only the children that are not Groups are considered (unless the
+     * {@link #childrenWithinBounds} flag is set): an Actor is only hit within
+     * its bounds, but the descendants of a Group can extend beyond them.
+     *
+     * @param index the index of the child.
+     * @param child the child at that index.
+     * @return {@code true} only if the circle enclosing the bounds of the
+     *         child lies within its slice, as found by
+     *         {@link #findSliceAtLocal(float, float)}.
+     */
+    private boolean isBoundingCircleWithinSlice(int index, Actor child) {
+        if(child instanceof Group && !childrenWithinBounds)
+            return false;
+
+        float originX = child.getOriginX();
+        float originY = child.getOriginY();
+        float halfX = Math.max(originX, child.getWidth() - originX);
+        float halfY = Math.max(originY, child.getHeight() - originY);
+        float radius = (float)Math.sqrt(halfX*halfX + halfY*halfY)
+                * Math.max(Math.abs(child.getScaleX()), Math.abs(child.getScaleY()));
+        float dx = child.getX() + originX - getWidth()/2;
+        float dy = child.getY() + originY - getHeight()/2;
+        float dist = (float)Math.sqrt(dx*dx + dy*dy);
+        if(!(dist - radius > getSliceInnerRadius(index) + HIT_MARGIN
+                && dist + radius < getSliceOuterRadius(index) - HIT_MARGIN))
+            return false;
+
+        float angle = normalizeAngle((float)Math.toDegrees(Math.atan2(dy, dx)) - startDegreesOffset);
+        float spread = (float)Math.toDegrees(Math.asin(radius / dist));
+        return angle - spread > getSliceStart(index) * totalDegreesDrawn + HIT_MARGIN
+            && angle + spread < getSliceEnd(index) * totalDegreesDrawn - HIT_MARGIN;
+    }
+
+    /**
+     * A cheap test that rejects most of the children without converting the
+     * coordinate to their own space: the bounds of a child, whatever its
+     * rotation, lie within a circle centered on its origin.
+     *
+     * @param x x-coordinate relative to the bottom-left of the widget.
+     * @param y y-coordinate relative to the bottom-left of the widget.
+     * @return {@code true} if the bounds of the child could contain (x,y).
+     */
+    private static boolean isWithinBoundingCircle(Actor child, float x, float y) {
+        float originX = child.getOriginX();
+        float originY = child.getOriginY();
+        float halfX = Math.max(originX, child.getWidth() - originX);
+        float halfY = Math.max(originY, child.getHeight() - originY);
+        float scale = Math.max(Math.abs(child.getScaleX()), Math.abs(child.getScaleY()));
+        float dx = x - child.getX() - originX;
+        float dy = y - child.getY() - originY;
+        return dx*dx + dy*dy <= (halfX*halfX + halfY*halfY) * scale*scale;
+    }
+
     /**
      * Determines whether or not the {@link #innerRadiusPercent inner radius}
      * blocks the propagation of the {@link #hit(float, float, boolean)}.
@@ -399,13 +996,14 @@ public class RadialGroup extends WidgetGroup {
      * @param x x-coordinate in the Stage, relative to the bottom left of the attached actor.
      * @param y y-coordinate in the Stage, relative to the bottom left of the attached actor.
      * @return The index of the child at that coordinate.
-     *         If there are no child there, the amount of children is returned.
+     *         If there are no child there, the {@link #getAmountOfSlices()
+     *         amount of slices} is returned.
      */
     public int findChildIndexAtStage(float x, float y) {
-        stageToLocalCoordinates(vector2.set(x,y));
+        getStageToLocalTransform().applyTo(vector2.set(x,y));
         return isWithinRadii(vector2.x - getWidth()/2, vector2.y - getHeight()/2)
-                ? findIndexFromAngle(angleAtStage(x,y))
-                : getAmountOfChildren(); // "getAmountOfChildren" is equivalent to "invalid"
+                ? findIndexFromVector(vector2.x - getWidth()/2, vector2.y - getHeight()/2)
+                : getAmountOfSlices(); // "getAmountOfSlices" is equivalent to "invalid"
     }
 
     /**
@@ -418,7 +1016,374 @@ public class RadialGroup extends WidgetGroup {
      * @return The index of the child at that coordinate. Not guaranteed to be valid.
      */
     public int findIndexFromAngle(float angle) {
-        return MathUtils.floor(angle / totalDegreesDrawn * getAmountOfChildren());
+        if(!isWeighted())
+            return MathUtils.floor(angle / totalDegreesDrawn * getAmountOfSlices());
+
+        float fraction = angle / totalDegreesDrawn;
+        if(fraction < 0)
+            return -1;
+        if(fraction >= 1)
+            return getAmountOfSlices();
+
+        /* Binary search for the last slice starting before the angle. */
+        updateSlices();
+        float[] starts = sliceStarts.items;
+        int low = 0;
+        int high = getAmountOfSlices() - 1;
+        while(low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if(starts[mid] <= fraction)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Given a direction from the center of the widget, find the index of the
+     * child (if any), as {@link #findIndexFromAngle(float)} would.<br>
+     * Unless {@link #isExactHitAngles()}, no angle is computed: a table
+     * gives the first slice that could contain the vector, and the vector is
+     * then compared to the boundaries of the following slices through cross
+     * products (usually only one or two of them).
+     *
+     * @see #isValidIndex(int)
+     * @param x x-coordinate relative to the center of the widget.
+     * @param y y-coordinate relative to the center of the widget.
+     * @return The index of the child in that direction. Not guaranteed to be valid.
+     */
+    int findIndexFromVector(float x, float y) {
+        if(isExactHitAngles())
+            return findIndexFromAngle(angleAtLocal(x + getWidth()/2, y + getHeight()/2));
+        return findIndexFromBoundaries(x, y);
+    }
+
+    /**
+     * Finds the slice whose area contains a coordinate, from the geometry of
+     * the slices alone: neither {@link #findIndexFromAngle(float)} nor the
+     * selection range of a {@link PieMenu} are involved.
+     *
+     * @param x x-coordinate relative to the center of the widget.
+     * @param y y-coordinate relative to the center of the widget.
+     * @return The index of the slice at that coordinate. Not guaranteed to be valid.
+     */
+    int findSliceAtLocal(float x, float y) {
+        return isWithinRadii(x, y) ? findIndexFromBoundaries(x, y) : getAmountOfSlices();
+    }
+
+    /**
+     * Compares a direction from the center of the widget to the precomputed
+     * boundaries of the slices.
+     *
+     * @param x x-coordinate relative to the center of the widget.
+     * @param y y-coordinate relative to the center of the widget.
+     * @return The index of the child in that direction. Not guaranteed to be valid.
+     */
+    private int findIndexFromBoundaries(float x, float y) {
+        int amount = getAmountOfSlices();
+        if(amount == 0)
+            return amount; // "getAmountOfSlices" is equivalent to "invalid"
+        updateBoundaries(amount);
+
+        /* Rotating the vector so that the slices start along the x-axis. */
+        float px = x*offsetCos + y*offsetSin;
+        float py = y*offsetCos - x*offsetSin;
+        if(px == 0 && py == 0)
+            return totalDegreesDrawn > 0 ? 0 : amount;
+        if(Float.isNaN(px) || Float.isNaN(py))
+            return amount;
+
+        float[] vectors = boundaries;
+        if(totalDegreesDrawn < 360 && !isBefore(px, py, vectors[2*amount], vectors[2*amount + 1]))
+            return amount;
+
+        /* The table gives a slice starting before the vector: moving on to the last one. */
+        int index = boundaryBuckets[(int)(pseudoAngle(px, py) * BUCKETS_PER_QUADRANT * amount)];
+        while(index + 1 < amount && !isBefore(px, py, vectors[2*index + 2], vectors[2*index + 3]))
+            index++;
+        return index;
+    }
+
+    /**
+     * A value in between 0 (inclusively) and 4 (exclusively) which grows
+     * with the angle of the vector, without being proportional to it. Going
+     * from one axis to the next adds 1.
+     */
+    private static float pseudoAngle(float x, float y) {
+        if(y >= 0)
+            return x >= 0 ? y / (x + y) : 1 - x / (y - x);
+        return x < 0 ? 2 - y / (-x - y) : 3 + x / (x - y);
+    }
+
+    /**
+     * Compares the angles of two vectors, both considered to be in between
+     * 0 (inclusively) and 360 (exclusively) degrees, without computing them.
+     *
+     * @return {@code true} only if the angle of {@code (ax,ay)} is smaller
+     *         than the one of {@code (bx,by)}.
+     */
+    private static boolean isBefore(float ax, float ay, float bx, float by) {
+        boolean lowerA = ay < 0 || (ay == 0 && ax < 0);
+        boolean lowerB = by < 0 || (by == 0 && bx < 0);
+        if(lowerA != lowerB)
+            return lowerB;
+        return ax*by - ay*bx > 0;
+    }
+
+    /**
+     * Computes the unit vector along the start of each slice (and along the
+     * end of the last one), relative to the {@link #startDegreesOffset}.
+     */
+    private void updateBoundaries(int amount) {
+        if(boundariesValid && boundariesAmount == amount
+                && boundariesOffset == startDegreesOffset && boundariesDegrees == totalDegreesDrawn)
+            return;
+
+        if(boundaries.length < 2*(amount + 1))
+            boundaries = new float[2*(amount + 1)];
+        for(int i = 0; i <= amount; i++) {
+            double radians = Math.toRadians((i == amount ? 1 : getSliceStart(i)) * totalDegreesDrawn);
+            boundaries[2*i]     = (float)Math.cos(radians);
+            boundaries[2*i + 1] = (float)Math.sin(radians);
+        }
+        /* For each bucket of pseudo-angles, the slice containing the start of the bucket. */
+        int buckets = 4 * BUCKETS_PER_QUADRANT * amount;
+        if(boundaryBuckets.length < buckets + 1)
+            boundaryBuckets = new int[buckets + 1];
+        int index = 0;
+        for(int bucket = 0; bucket <= buckets; bucket++) {
+            float start = (float)bucket / (BUCKETS_PER_QUADRANT * amount);
+            while(index + 1 < amount
+                    && pseudoAngle(boundaries[2*index + 2], boundaries[2*index + 3]) <= start)
+                index++;
+            boundaryBuckets[bucket] = index;
+        }
+
+        offsetCos = (float)Math.cos(Math.toRadians(startDegreesOffset));
+        offsetSin = (float)Math.sin(Math.toRadians(startDegreesOffset));
+        boundariesValid = true;
+        boundariesAmount = amount;
+        boundariesOffset = startDegreesOffset;
+        boundariesDegrees = totalDegreesDrawn;
+    }
+
+    /**
+     * Sets the angular weight of a child: each slice spans a share of the
+     * {@link #totalDegreesDrawn} proportional to the weight of its child.
+     * Children default to a weight of {@code 1}.<br>
+     * The weight is forgotten once the Actor is removed from the widget.
+     *
+     * @param actor the child whose slice is resized.
+     * @param weight a strictly positive weight.
+     */
+    public void setWeight(Actor actor, float weight) {
+        if(actor == null)
+            throw new IllegalArgumentException("actor cannot be null.");
+        if(actor.getParent() != this)
+            throw new IllegalArgumentException("actor must be a child of the widget.");
+        if(!(weight > 0) || Float.isInfinite(weight))
+            throw new IllegalArgumentException("weight must be strictly positive and finite.");
+        if(weights.get(actor, 1) == weight && weights.containsKey(actor))
+            return;
+        weights.put(actor, weight);
+        slicesChanged();
+    }
+
+    /**
+     * @param actor any Actor.
+     * @return the angular weight of that Actor. Defaults to {@code 1}.
+     */
+    public float getWeight(Actor actor) {
+        return weights.get(actor, 1);
+    }
+
+    /**
+     * Resets the angular weight of every Actor back to {@code 1}: all the
+     * slices then span the same amount of degrees.
+     */
+    public void clearWeights() {
+        if(weights.size == 0)
+            return;
+        weights.clear();
+        slicesChanged();
+    }
+
+    /**
+     * @return {@code true} only if at least one Actor was given an angular
+     *         weight through {@link #setWeight(Actor, float)}.
+     */
+    public boolean isWeighted() {
+        return weights.size > 0;
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the angle at which its slice starts, in degrees, relative to
+     *         the {@link #startDegreesOffset}.
+     */
+    public float getSliceStartAngle(int index) {
+        return getSliceStart(index) * totalDegreesDrawn;
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the amount of degrees spanned by its slice.
+     */
+    public float getSliceAngle(int index) {
+        return getSliceDegrees(index, totalDegreesDrawn);
+    }
+
+    /**
+     * @param index an index between {@code 0} and the amount of children,
+     *              inclusively.
+     * @return the fraction of the degrees drawn preceding the start of the
+     *         slice at that index.
+     */
+    float getSliceStart(int index) {
+        if(!isWeighted())
+            return (float)index / getAmountOfSlices();
+        updateSlices();
+        return sliceStarts.get(index);
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the fraction of the degrees drawn preceding the end of the
+     *         slice at that index.
+     */
+    float getSliceEnd(int index) {
+        return getSliceStart(index + 1);
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the distance from the center at which its slice starts.
+     */
+    float getSliceInnerRadius(int index) {
+        return getInnerRadiusLength();
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the distance from the center at which its slice ends.
+     */
+    float getSliceOuterRadius(int index) {
+        return getCurrentRadius();
+    }
+
+    /**
+     * @param index the index of a child.
+     * @param actor the child at that index.
+     * @return the distance from the center at which the child is placed.
+     */
+    float getSliceDistanceFromCenter(int index, Actor actor) {
+        return getActorDistanceFromCenter(actor);
+    }
+
+    /**
+     * @return {@code true} only if all the slices span the same amount of
+     *         degrees, between the same radii, one after the other.
+     */
+    boolean hasUniformSlices() {
+        return !isWeighted();
+    }
+
+    /**
+     * @param index the index of a child.
+     * @param degrees the amount of degrees spanned by all the slices.
+     * @return the amount of degrees spanned by the slice at that index.
+     */
+    float getSliceDegrees(int index, float degrees) {
+        if(!isWeighted())
+            return degrees / getAmountOfSlices();
+        updateSlices();
+        return (sliceStarts.get(index + 1) - sliceStarts.get(index)) * degrees;
+    }
+
+    /**
+     * @param degrees the amount of degrees spanned by all the slices.
+     * @param cache whether or not the table is likely to be reused. Without
+     *              weights, no table is returned unless it is.
+     * @return the cosine and the sine (one after the other) of the angle at
+     *         the middle of each slice, or {@code null} if they should be
+     *         computed on the fly. The array must not be modified.
+     */
+    float[] obtainAngles(float degrees, boolean cache) {
+        if(!isWeighted())
+            return cache ? AngleTableCache.obtain(getAmountOfSlices(), startDegreesOffset, degrees) : null;
+
+        updateSlices();
+        if(weightedAnglesValid
+                && weightedAnglesOffset == startDegreesOffset
+                && weightedAnglesDegrees == degrees)
+            return weightedAngles;
+
+        int amount = getAmountOfSlices();
+        if(weightedAngles.length < 2 * amount)
+            weightedAngles = new float[2 * amount];
+        float[] starts = sliceStarts.items;
+        for(int i = 0; i < amount; i++) {
+            float middle = (starts[i] + starts[i+1]) * HALF * degrees + startDegreesOffset;
+            weightedAngles[2*i]     = MathUtils.cosDeg(middle);
+            weightedAngles[2*i + 1] = MathUtils.sinDeg(middle);
+        }
+        weightedAnglesValid = true;
+        weightedAnglesOffset = startDegreesOffset;
+        weightedAnglesDegrees = degrees;
+        return weightedAngles;
+    }
+
+    /**
+     * Recomputes the normalized prefix sums of the weights, if needed.
+     */
+    private void updateSlices() {
+        if(slicesValid)
+            return;
+        slicesValid = true;
+        weightedAnglesValid = false;
+
+        int amount = getAmountOfSlices();
+        sliceStarts.setSize(amount + 1);
+        float[] starts = sliceStarts.items;
+        float sum = 0;
+        for(int i = 0; i < amount; i++) {
+            starts[i] = sum;
+            sum += i < getAmountOfChildren() ? getWeight(getChildren().get(i)) : 1;
+        }
+        for(int i = 0; i < amount; i++)
+            starts[i] /= sum;
+        starts[amount] = 1;
+    }
+
+    /**
+     * Called whenever the angles spanned by the slices may have changed:
+     * when a weight is set, and when the children of a weighted widget change.
+     */
+    protected void slicesChanged() {
+        slicesValid = false;
+        boundariesValid = false;
+        forgetPlacementsAfter(0);
+        invalidate();
+    }
+
+    @Override
+    protected void childrenChanged() {
+        super.childrenChanged();
+        for(int i = hiddenChildren.size - 1; i >= 0; i--) {
+            Actor actor = hiddenChildren.get(i);
+            if(actor.getParent() != this) {
+                hiddenChildren.removeIndex(i);
+                actor.setVisible(true); // it is not ours to hide anymore
+            }
+        }
+        if(isWeighted()) {
+            ObjectFloatMap.Keys<Actor> keys = weights.keys();
+            while(keys.hasNext)
+                if(keys.next().getParent() != this)
+                    keys.remove(); // removed children forget their weight
+            slicesChanged();
+        }
     }
 
     /**
@@ -432,17 +1397,32 @@ public class RadialGroup extends WidgetGroup {
      *         (i.e. middle) of the widget.
      */
     public float angleAtStage(float x, float y) {
-        localToStageCoordinates(vector2.set(getWidth()/2, getHeight()/2));
+        getStageToLocalTransform().applyTo(vector2.set(x,y));
+        return angleAtLocal(vector2.x, vector2.y);
+    }
+
+    /**
+     * Finding the angle, in degrees, compared to the origin (i.e. center) of
+     * the widget. The {@link #startDegreesOffset} of the widget is
+     * automatically taken in count. The output is normalized.
+     *
+     * @see #angleAtStage(float, float)
+     * @param x x-coordinate relative to the bottom-left of the widget.
+     * @param y y-coordinate relative to the bottom-left of the widget.
+     * @return a normalized angle of the input position relative to the origin
+     *         (i.e. middle) of the widget.
+     */
+    public float angleAtLocal(float x, float y) {
         return normalizeAngle(
                 MathUtils.radiansToDegrees
-                        * MathUtils.atan2(y - vector2.y, x - vector2.x)
-                        - getTotalRotation() - startDegreesOffset
+                        * MathUtils.atan2(y - getHeight()/2, x - getWidth()/2)
+                        - startDegreesOffset
         );
     }
 
     /**
      * To obtain the rotation value, including the rotation induced
-     * from the parent Groups.<br>
+     * from all the parent Groups.<br>
      * That is because calling {@link #getRotation()} in scene2d
      * only returns the rotation value applied directly to the Actor.
      * If a {@link Group} including this Actor is rotated, then even
@@ -451,11 +1431,89 @@ public class RadialGroup extends WidgetGroup {
      * @return The total rotation value.
      */
     protected float getTotalRotation() {
-        float rotation = getRotation();
-        Group parent = getParent();
-        if(parent == null)
-            return rotation;
-        return rotation + parent.getRotation();
+        float rotation = 0;
+        for(Actor actor = this; actor != null; actor = actor.getParent())
+            rotation += actor.getRotation();
+        return rotation;
+    }
+
+    /**
+     * The transform that maps the coordinates of this widget to the
+     * coordinates of the Stage, taking into account the position, rotation,
+     * scale and origin of the widget and of all its parents.<br>
+     * It is cached: it is only computed again once the transform of the
+     * widget or of one of its parents changed (or once the widget was moved
+     * to another parent), which makes converting a coordinate a single
+     * matrix multiplication.<br>
+     * While the widget is on a Stage, the parents are only checked once per
+     * frame: a change of their transform (or of the scale of the widget) is
+     * noticed on the next {@link #act(float)}. Moving, rotating or
+     * invalidating the widget itself is noticed right away.
+     *
+     * @return the cached transform. Do not modify it.
+     */
+    protected Affine2 getLocalToStageTransform() {
+        validateStageTransforms();
+        return localToStage;
+    }
+
+    /**
+     * The inverse of {@link #getLocalToStageTransform()}: maps the
+     * coordinates of the Stage to the coordinates of this widget.<br>
+     * If the widget (or a parent) has a scale of 0, every coordinate is
+     * mapped to {@code NaN}, which never hits anything.
+     *
+     * @return the cached transform. Do not modify it.
+     */
+    protected Affine2 getStageToLocalTransform() {
+        validateStageTransforms();
+        return stageToLocal;
+    }
+
+    private void validateStageTransforms() {
+        if(stageTransformsChecked)
+            return;
+        stageTransformsChecked = getStage() != null; // only then is act() called on every frame
+        if(areStageTransformsValid())
+            return;
+
+        transformChain.clear();
+        transformStates.clear();
+        localToStage.idt();
+        for(Actor actor = this; actor != null; actor = actor.getParent()) {
+            float originX = actor.getOriginX();
+            float originY = actor.getOriginY();
+            transformChain.add(actor);
+            transformStates.add(actor.getX(), actor.getY(), originX, originY);
+            transformStates.add(actor.getRotation(), actor.getScaleX(), actor.getScaleY());
+            tmpTransform.setToTrnRotScl(actor.getX() + originX, actor.getY() + originY,
+                    actor.getRotation(), actor.getScaleX(), actor.getScaleY());
+            localToStage.preMul(tmpTransform.translate(-originX, -originY));
+        }
+
+        if(localToStage.det() == 0) {
+            stageToLocal.m00 = stageToLocal.m01 = stageToLocal.m02 = Float.NaN;
+            stageToLocal.m10 = stageToLocal.m11 = stageToLocal.m12 = Float.NaN;
+        } else
+            stageToLocal.set(localToStage).inv();
+    }
+
+    private boolean areStageTransformsValid() {
+        if(transformChain.size == 0)
+            return false;
+        float[] states = transformStates.items;
+        Actor actor = this;
+        for(int i = 0; i < transformChain.size; i++) {
+            int s = i * TRANSFORM_STATE_SIZE;
+            if(actor != transformChain.get(i)
+                    || states[s]   != actor.getX()       || states[s+1] != actor.getY()
+                    || states[s+2] != actor.getOriginX() || states[s+3] != actor.getOriginY()
+                    || states[s+4] != actor.getRotation()
+                    || states[s+5] != actor.getScaleX()  || states[s+6] != actor.getScaleY())
+                return false;
+            actor = actor.getParent();
+        }
+        return actor == null;
     }
 
     /**
@@ -477,7 +1535,7 @@ public class RadialGroup extends WidgetGroup {
      * @return {@code true} only if the index is linked to a valid child sector.
      */
     public boolean isValidIndex(int index) {
-        return !(index <= -1 || index >= getAmountOfChildren());
+        return !(index <= -1 || index >= getAmountOfSlices());
     }
 
     /**
@@ -525,6 +1583,13 @@ public class RadialGroup extends WidgetGroup {
      *         angle in between the drawn start and finish.
      */
     public boolean isWithinDrawnAngle(float x, float y) {
+        if(!isExactHitAngles()) {
+            int amount = getAmountOfSlices();
+            updateBoundaries(amount);
+            return totalDegreesDrawn >= 360
+                    || isBefore(x*offsetCos + y*offsetSin, y*offsetCos - x*offsetSin,
+                                boundaries[2*amount], boundaries[2*amount + 1]);
+        }
         float inputAngle = MathUtils.radiansToDegrees * MathUtils.atan2(y, x) - startDegreesOffset;
         return normalizeAngle(inputAngle) < totalDegreesDrawn;
     }
@@ -610,6 +1675,115 @@ public class RadialGroup extends WidgetGroup {
         return getChildren().size;
     }
 
+    /**
+     * @return the amount of slices of the Widget. Unless they are replaced
+     *         by something else (such as the
+     *         {@link PieWidget#getSliceContents() slice contents} of a
+     *         {@link PieWidget}), there is one slice per child.
+     */
+    public int getAmountOfSlices() {
+        return getAmountOfChildren();
+    }
+
+    /**
+     * @see #incrementalLayout
+     * @return {@code true} only if a layout only repositions the children
+     *         whose placement changed.
+     */
+    public boolean isIncrementalLayout() {
+        return incrementalLayout;
+    }
+
+    /**
+     * @see #incrementalLayout
+     * @param incrementalLayout set to {@code false} if you want every child
+     *                          to be repositioned (and modified) on every
+     *                          layout.
+     */
+    public void setIncrementalLayout(boolean incrementalLayout) {
+        this.incrementalLayout = incrementalLayout;
+        invalidate();
+    }
+
+    /**
+     * @see #layoutBoundary
+     * @return {@code true} only if the widget is a layout boundary.
+     */
+    public boolean isLayoutBoundary() {
+        return layoutBoundary;
+    }
+
+    /**
+     * Turning it on freezes the size of the widget to the current
+     * {@link #preferredRadius}: further changes of radius are then drawn
+     * scaled within those bounds, without invalidating the parents.
+     *
+     * @see #layoutBoundary
+     * @param layoutBoundary whether or not the widget acts as a layout
+     *                       boundary.
+     */
+    public void setLayoutBoundary(boolean layoutBoundary) {
+        if(this.layoutBoundary == layoutBoundary)
+            return;
+        boundaryRadius = preferredRadius;
+        this.layoutBoundary = layoutBoundary;
+        if(!layoutBoundary) {
+            setSize(getMinWidth(), getMinHeight()); // for orphan widgets (no parent)
+            invalidateHierarchy();
+        } else
+            invalidate();
+    }
+
+    /**
+     * @return the radius of the bounds the widget asks from its parent. It is
+     *         the {@link #preferredRadius}, unless the widget is a
+     *         {@link #layoutBoundary}: then it is the {@link #preferredRadius}
+     *         it had when it became one.
+     */
+    public float getBoundaryRadius() {
+        return layoutBoundary ? boundaryRadius : preferredRadius;
+    }
+
+    /**
+     * @see #childrenWithinBounds
+     * @return {@code true} only if the children are assumed to lie within
+     *         their bounds when hit.
+     */
+    public boolean isChildrenWithinBounds() {
+        return childrenWithinBounds;
+    }
+
+    /**
+     * @see #childrenWithinBounds
+     * @param childrenWithinBounds whether or not the children (and their own
+     *                             descendants) are assumed to lie within
+     *                             their bounds.
+     */
+    public void setChildrenWithinBounds(boolean childrenWithinBounds) {
+        this.childrenWithinBounds = childrenWithinBounds;
+    }
+
+    /**
+     * @see #exactHitAngles
+     * @return {@code true} only if the slice under a coordinate is found
+     *         from the exact angle of that coordinate, through
+     *         {@link #findIndexFromAngle(float)}.
+     */
+    public boolean isExactHitAngles() {
+        return exactHitAngles;
+    }
+
+    /**
+     * @see #exactHitAngles
+     * @param exactHitAngles whether or not the slice under a coordinate is
+     *                       found from the exact angle of that coordinate,
+     *                       instead of by comparing it to the boundaries of
+     *                       the slices.
+     */
+    public void setExactHitAngles(boolean exactHitAngles) {
+        this.exactHitAngles = exactHitAngles;
+    }
+
     /**
      * @return the multiplier's value which is applied to all the alpha values
      *         of the things contained by the widget (slices, lines, drawables, etc.)
@@ -658,16 +1832,23 @@ public class RadialGroup extends WidgetGroup {
      *                  {@link #innerRadiusPercent} is set to a smaller value.
      */
     public void setPreferredRadius(float preferredRadius) {
-        if(preferredRadius < BUFFER)
-            throw new IllegalArgumentException("radius cannot be smaller than " + BUFFER + ".");
-        if(preferredRadius != lastRadius) {
-            this.preferredRadius = preferredRadius;
-            lastRadius = preferredRadius;
+        checkPreferredRadius(preferredRadius);
+        if(preferredRadius != lastRadius)
+            radiusChanged(preferredRadius);
+    }
 
-            setSize(getMinWidth(), getMinHeight()); // for orphan widgets (no parent)
+    private void radiusChanged(float preferredRadius) {
+        this.preferredRadius = preferredRadius;
+        lastRadius = preferredRadius;
 
-            invalidateHierarchy();
+        if(layoutBoundary) {
+            invalidate(); // the bounds stay the same: only the content is scaled
+            return;
         }
+
+        setSize(getMinWidth(), getMinHeight()); // for orphan widgets (no parent)
+
+        invalidateHierarchy();
     }
 
     /**
@@ -709,10 +1890,7 @@ public class RadialGroup extends WidgetGroup {
      *                           and 1 (exclusive).
      */
     public void setInnerRadiusPercent(float innerRadiusPercent) {
-        if(innerRadiusPercent < 0)
-            throw new IllegalArgumentException("innerRadius cannot be negative.");
-        if(innerRadiusPercent >= 1)
-            throw new IllegalArgumentException("innerRadius must be smaller than 1.");
+        checkInnerRadiusPercent(innerRadiusPercent);
         if(this.innerRadiusPercent != innerRadiusPercent) {
             this.innerRadiusPercent = innerRadiusPercent;
             invalidate();
@@ -741,10 +1919,7 @@ public class RadialGroup extends WidgetGroup {
      * @param startDegreesOffset Must be between 0 (inclusive) and 360 (exclusive).
      */
     public void setStartDegreesOffset(float startDegreesOffset) {
-        if(startDegreesOffset < 0)
-            throw new IllegalArgumentException("startDegreesOffset cannot be negative.");
-        if(startDegreesOffset >= 360)
-            throw new IllegalArgumentException("startDegreesOffset must be lower than 360.");
+        checkStartDegreesOffset(startDegreesOffset);
         if(this.startDegreesOffset != startDegreesOffset) {
             this.startDegreesOffset = startDegreesOffset;
             invalidate();
@@ -771,13 +1946,36 @@ public class RadialGroup extends WidgetGroup {
      * @param totalDegreesDrawn Must be between 0 and 360 (inclusively).
      */
     public void setTotalDegreesDrawn(float totalDegreesDrawn) {
-        if(totalDegreesDrawn < 0)
-            throw new IllegalArgumentException("totalDegreesDrawn cannot be negative.");
-        if(totalDegreesDrawn > 360)
-            throw new IllegalArgumentException("totalDegreesDrawn must be lower or equal to 360.");
+        checkTotalDegreesDrawn(totalDegreesDrawn);
         if(this.totalDegreesDrawn != totalDegreesDrawn) {
             this.totalDegreesDrawn = totalDegreesDrawn;
             invalidate();
         }
     }
-}
\ No newline at end of file
+
+    private static void checkPreferredRadius(float preferredRadius) {
+        if(preferredRadius < BUFFER)
+            throw new IllegalArgumentException("radius cannot be smaller than " + BUFFER + ".");
+    }
+
+    private static void checkInnerRadiusPercent(float innerRadiusPercent) {
+        if(innerRadiusPercent < 0)
+            throw new IllegalArgumentException("innerRadius cannot be negative.");
+        if(innerRadiusPercent >= 1)
+            throw new IllegalArgumentException("innerRadius must be smaller than 1.");
+    }
+
+    private static void checkStartDegreesOffset(float startDegreesOffset) {
+        if(startDegreesOffset < 0)
+            throw new IllegalArgumentException("startDegreesOffset cannot be negative.");
+        if(startDegreesOffset >= 360)
+            throw new IllegalArgumentException("startDegreesOffset must be lower than 360.");
+    }
+
+    private static void checkTotalDegreesDrawn(float totalDegreesDrawn) {
+        if(totalDegreesDrawn < 0)
+            throw new IllegalArgumentException("totalDegreesDrawn cannot be negative.");
+        if(totalDegreesDrawn > 360)
+            throw new IllegalArgumentException("totalDegreesDrawn must be lower or equal to 360.");
+    }
+}
@@ -0,0 +1,356 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.IntArray;
+
+
+/**
+ * A {@link PieMenu} whose slices are spread over concentric rings.<br>
+ * The space in between the {@link #getInnerRadiusLength() inner radius} and
+ * the {@link #getCurrentRadius() radius} is split evenly into rings, and each
+ * ring is split evenly into slices. The children are assigned to the rings
+ * in order: the first {@code ringSizes[0]} children go in the innermost ring,
+ * the next {@code ringSizes[1]} in the second one, and so on. The outermost
+ * ring receives all the remaining children.<br>
+ * The indices used by the rest of the {@link PieMenu} API remain the indices
+ * of the children: {@link #getRing(int)} and {@link #getIndexInRing(int)}
+ * convert them, and {@link #getIndex(int, int)} does the opposite.
+ * <br><br>
+ * Finding the slice under the pointer takes a single distance check (which
+ * yields the ring) and a single angle computation (which yields the slice
+ * within that ring), and all the rings are drawn in the same pass.<br>
+ * Weights set through {@link #setWeight(Actor, float)} are ignored, and the
+ * {@link #getActorDistanceFromCenter(Actor)} is replaced by the middle of
+ * the ring of each child.
+ * <pre>
+ * {@code
+ * RingPieMenu menu = new RingPieMenu(whitePixel, style, 150, .2f);
+ * menu.setRingSizes(4, 8); // 4 slices inside, the others outside
+ * }
+ * </pre>
+ *
+ * @author Jérémi Grenier-Berthiaume (aka "payne")
+ */
+public class RingPieMenu extends PieMenu {
+
+    /**
+     * The amount of slices in each ring, starting from the innermost one.
+     * The outermost ring receives all the remaining children.<br>
+     * <b>Defaults</b> to a single ring.
+     */
+    private final IntArray ringSizes = new IntArray(new int[] {0});
+
+
+    /* For internal use (optimization). */
+    private final IntArray ringStarts = new IntArray();
+    private boolean ringsValid = false;
+    private float[] angles = new float[0];
+    private boolean anglesValid = false;
+    private float anglesOffset;
+    private float anglesDegrees;
+    private static final Vector2 vector2 = new Vector2();
+
+
+
+
+    /**
+     * See {@link RingPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param style defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     */
+    public RingPieMenu(final TextureRegion whitePixel,
+                       PieMenuStyle style, float preferredRadius) {
+        super(whitePixel, style, preferredRadius);
+    }
+
+    /**
+     * See {@link RingPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param style defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     * @param innerRadiusPercent the {@link #innerRadiusPercent} that defines
+     *                           the percentage of the radius that is cut off,
+     *                           starting from the center of the widget.
+     */
+    public RingPieMenu(final TextureRegion whitePixel,
+                       PieMenuStyle style, float preferredRadius,
+                       float innerRadiusPercent) {
+        super(whitePixel, style, preferredRadius, innerRadiusPercent);
+    }
+
+    /**
+     * See {@link RingPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param skin defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     */
+    public RingPieMenu(final TextureRegion whitePixel,
+                       Skin skin, float preferredRadius) {
+        super(whitePixel, skin, preferredRadius);
+    }
+
+    /**
+     * See {@link RingPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param skin defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     * @param innerRadiusPercent the {@link #innerRadiusPercent} that defines
+     *                           the percentage of the radius that is cut off,
+     *                           starting from the center of the widget.
+     */
+    public RingPieMenu(final TextureRegion whitePixel,
+                       Skin skin, float preferredRadius,
+                       float innerRadiusPercent) {
+        super(whitePixel, skin, preferredRadius, innerRadiusPercent);
+    }
+
+
+
+
+    @Override
+    public int findChildIndexAtStage(float x, float y) {
+        getStageToLocalTransform().applyTo(vector2.set(x,y));
+        float dx = vector2.x - getWidth()/2;
+        float dy = vector2.y - getHeight()/2;
+
+        /* The distance gives the ring... */
+        float inner = getInnerRadiusLength();
+        float ringWidth = (getCurrentRadius() - inner) / getAmountOfRings();
+        float dist = (float)Math.sqrt(dx*dx + dy*dy);
+        int ring = ringWidth > 0 ? MathUtils.floor((dist - inner) / ringWidth) : 0;
+        if(dist < inner) {
+            if(!isInfiniteSelectionRange() || isMiddleCancel())
+                return getAmountOfSlices(); // "getAmountOfSlices" is equivalent to "invalid"
+            ring = 0;
+        }
+        if(ring >= getAmountOfRings()) {
+            if(!isInfiniteSelectionRange())
+                return getAmountOfSlices();
+            ring = getAmountOfRings() - 1;
+        }
+
+        /* ... and the angle gives the slice within that ring. */
+        return findIndexInRing(ring, normalizeAngle(
+                MathUtils.radiansToDegrees * MathUtils.atan2(dy, dx) - startDegreesOffset));
+    }
+
+    @Override
+    int findSliceAtLocal(float x, float y) {
+        float inner = getInnerRadiusLength();
+        float ringWidth = (getCurrentRadius() - inner) / getAmountOfRings();
+        float dist = (float)Math.sqrt(x*x + y*y);
+        if(dist < inner || dist > getCurrentRadius() || !(ringWidth > 0))
+            return getAmountOfSlices(); // "getAmountOfSlices" is equivalent to "invalid"
+        int ring = Math.min(MathUtils.floor((dist - inner) / ringWidth), getAmountOfRings() - 1);
+        return findIndexInRing(ring, normalizeAngle((float)Math.toDegrees(Math.atan2(y, x)) - startDegreesOffset));
+    }
+
+    /**
+     * Finds the index of the child of the outermost ring at the given angle.
+     *
+     * @param angle a normalized angle of the coordinate relative to the center
+     *              of the widget.
+     * @return The index of the child at that coordinate. Not guaranteed to be valid.
+     */
+    @Override
+    public int findIndexFromAngle(float angle) {
+        return findIndexInRing(getAmountOfRings() - 1, angle);
+    }
+
+    /**
+     * The rings have boundaries of their own: the slices are always found
+     * from the exact angle, through {@link #findIndexFromAngle(float)}.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean isExactHitAngles() {
+        return true;
+    }
+
+    private int findIndexInRing(int ring, float angle) {
+        int count = getRingSize(ring);
+        if(count == 0 || angle >= totalDegreesDrawn)
+            return getAmountOfSlices(); // "getAmountOfSlices" is equivalent to "invalid"
+        return getRingStart(ring) + Math.min(MathUtils.floor(angle / totalDegreesDrawn * count), count - 1);
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the index of the ring that contains it, {@code 0} being the
+     *         innermost one.
+     */
+    public int getRing(int index) {
+        updateRings();
+        int ring = 0;
+        while(ring + 1 < ringStarts.size && ringStarts.get(ring + 1) <= index)
+            ring++;
+        return ring;
+    }
+
+    /**
+     * @param index the index of a child.
+     * @return the position of the child within its ring, {@code 0} being the
+     *         first slice of the ring.
+     */
+    public int getIndexInRing(int index) {
+        return index - getRingStart(getRing(index));
+    }
+
+    /**
+     * @param ring the index of a ring, {@code 0} being the innermost one.
+     * @param indexInRing the position of a slice within that ring.
+     * @return the index of the child of that slice. Not guaranteed to be valid.
+     */
+    public int getIndex(int ring, int indexInRing) {
+        return getRingStart(ring) + indexInRing;
+    }
+
+    /**
+     * @param ring the index of a ring, {@code 0} being the innermost one.
+     * @return the amount of children currently in that ring.
+     */
+    public int getRingSize(int ring) {
+        int end = ring + 1 < getAmountOfRings() ? getRingStart(ring + 1) : getAmountOfSlices();
+        return end - getRingStart(ring);
+    }
+
+    /**
+     * @return the amount of rings.
+     */
+    public int getAmountOfRings() {
+        return ringSizes.size;
+    }
+
+    private int getRingStart(int ring) {
+        updateRings();
+        return ringStarts.get(ring);
+    }
+
+    private void updateRings() {
+        if(ringsValid)
+            return;
+        ringsValid = true;
+
+        ringStarts.clear();
+        int start = 0;
+        for(int ring = 0; ring < ringSizes.size; ring++) {
+            ringStarts.add(Math.min(start, getAmountOfSlices()));
+            start += ringSizes.get(ring);
+        }
+    }
+
+    @Override
+    float getSliceStart(int index) {
+        return (float)getIndexInRing(index) / getRingSize(getRing(index));
+    }
+
+    @Override
+    float getSliceEnd(int index) {
+        return (float)(getIndexInRing(index) + 1) / getRingSize(getRing(index));
+    }
+
+    @Override
+    float getSliceDegrees(int index, float degrees) {
+        return degrees / getRingSize(getRing(index));
+    }
+
+    @Override
+    float getSliceInnerRadius(int index) {
+        float inner = getInnerRadiusLength();
+        return inner + getRing(index) * (getCurrentRadius() - inner) / getAmountOfRings();
+    }
+
+    @Override
+    float getSliceOuterRadius(int index) {
+        float inner = getInnerRadiusLength();
+        return inner + (getRing(index) + 1) * (getCurrentRadius() - inner) / getAmountOfRings();
+    }
+
+    @Override
+    float getSliceDistanceFromCenter(int index, Actor actor) {
+        return (getSliceInnerRadius(index) + getSliceOuterRadius(index)) / 2;
+    }
+
+    @Override
+    boolean hasUniformSlices() {
+        return getAmountOfRings() == 1;
+    }
+
+    @Override
+    float[] obtainAngles(float degrees, boolean cache) {
+        if(anglesValid && anglesOffset == startDegreesOffset && anglesDegrees == degrees)
+            return angles;
+
+        int amount = getAmountOfSlices();
+        if(angles.length < 2 * amount)
+            angles = new float[2 * amount];
+        for(int i = 0; i < amount; i++) {
+            float middle = (getSliceStart(i) + getSliceEnd(i)) * HALF * degrees + startDegreesOffset;
+            angles[2*i]     = MathUtils.cosDeg(middle);
+            angles[2*i + 1] = MathUtils.sinDeg(middle);
+        }
+        anglesValid = true;
+        anglesOffset = startDegreesOffset;
+        anglesDegrees = degrees;
+        return angles;
+    }
+
+    @Override
+    protected void slicesChanged() {
+        ringsValid = false;
+        anglesValid = false;
+        super.slicesChanged();
+    }
+
+    @Override
+    protected void childrenChanged() {
+        super.childrenChanged();
+        slicesChanged();
+    }
+
+
+
+
+    /* ===== GETTERS/SETTERS ===== */
+
+    /**
+     * @return a copy of the amount of slices in each ring, starting from the
+     *         innermost one.
+     */
+    public int[] getRingSizes() {
+        return ringSizes.toArray();
+    }
+
+    /**
+     * The children are assigned to the rings in order. The outermost ring
+     * receives all the remaining children, no matter its given size.
+     *
+     * @param ringSizes the amount of slices in each ring, starting from the
+     *                  innermost one. There must be at least one ring, and
+     *                  sizes cannot be negative.
+     */
+    public void setRingSizes(int... ringSizes) {
+        if(ringSizes == null || ringSizes.length == 0)
+            throw new IllegalArgumentException("ringSizes must contain at least one ring.");
+        for(int size : ringSizes)
+            if(size < 0)
+                throw new IllegalArgumentException("ringSizes cannot be negative.");
+        this.ringSizes.clear();
+        this.ringSizes.addAll(ringSizes);
+        slicesChanged();
+    }
+}
@@ -0,0 +1,106 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IdentityMap;
+import space.earlygrey.shapedrawer.ShapeDrawer;
+
+
+/**
+ * Shares a single {@link ShapeDrawer} among all the widgets drawn with the
+ * same {@link Batch}, instead of having each widget create its own.<br>
+ * Drawers are kept until {@link #release(Batch)} or {@link #clear()} is
+ * called: do so when disposing of a Batch that was used to draw widgets
+ * (a Batch dedicated to a FrameBuffer, for example).
+ *
+ * @author Jérémi Grenier-Berthiaume (aka "payne")
+ */
+public final class ShapeDrawerRegistry {
+
+    private static final IdentityMap<Batch, SharedShapeDrawer> drawers = new IdentityMap<>();
+
+
+    private ShapeDrawerRegistry() {
+    }
+
+
+    /**
+     * Returns the {@link ShapeDrawer} associated with the given {@link Batch},
+     * creating it if there was none yet.
+     *
+     * @param batch the Batch the drawer draws into.
+     * @param whitePixel a 1x1 white pixel, only used if the drawer has to be created.
+     * @return the drawer shared by every widget drawn with that Batch.
+     */
+    public static SharedShapeDrawer obtain(Batch batch, TextureRegion whitePixel) {
+        if(batch == null)
+            throw new IllegalArgumentException("batch cannot be null.");
+        SharedShapeDrawer drawer = drawers.get(batch);
+        if(drawer == null) {
+            drawer = new SharedShapeDrawer(batch, whitePixel);
+            drawers.put(batch, drawer);
+        }
+        return drawer;
+    }
+
+    /**
+     * Forgets about the drawer associated with the given {@link Batch}.
+     *
+     * @param batch the Batch that will not be used anymore.
+     */
+    public static void release(Batch batch) {
+        drawers.remove(batch);
+    }
+
+    /**
+     * Forgets about all the drawers.
+     */
+    public static void clear() {
+        drawers.clear();
+    }
+
+    /**
+     * @return the amount of Batches that currently have a drawer associated with them.
+     */
+    public static int size() {
+        return drawers.size;
+    }
+
+
+    /**
+     * A {@link ShapeDrawer} whose amount of sides is determined by the
+     * {@link LevelOfDetail} of the widget currently using it.
+     */
+    public static class SharedShapeDrawer extends ShapeDrawer {
+        private TextureRegion whitePixel;
+        private LevelOfDetail levelOfDetail = LevelOfDetail.getDefault();
+        private float pixelScale = 1;
+
+        SharedShapeDrawer(Batch batch, TextureRegion whitePixel) {
+            super(batch, whitePixel);
+            this.whitePixel = whitePixel;
+        }
+
+        /**
+         * Called by a widget before drawing with this instance.
+         *
+         * @param whitePixel the 1x1 white pixel of the widget.
+         * @param levelOfDetail determines the amount of sides of the curves.
+         * @param pixelScale the amount of pixels per unit of the widget.
+         */
+        public void prepare(TextureRegion whitePixel, LevelOfDetail levelOfDetail, float pixelScale) {
+            if(this.whitePixel != whitePixel) {
+                this.whitePixel = whitePixel;
+                setTextureRegion(whitePixel);
+            }
+            this.levelOfDetail = levelOfDetail;
+            this.pixelScale = pixelScale;
+        }
+
+        @Override
+        protected int estimateSidesRequired(float radiusX, float radiusY) {
+            return levelOfDetail.getSegments(Math.max(radiusX, radiusY) * pixelScale, MathUtils.PI2);
+        }
+    }
+}
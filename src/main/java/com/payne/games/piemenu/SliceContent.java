@@ -0,0 +1,138 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.Align;
+
+
+/**
+ * The content of a slice of a {@link PieWidget}, drawn directly by the widget
+ * instead of by a child Actor.<br>
+ * It is plain data: no listeners, no transform and no layout are involved,
+ * which makes it a lot lighter than the usual {@code Image} or {@code Label}
+ * (often wrapped in a {@code Container}) used for each slice.<br>
+ * The {@link #drawable} and the {@link #text} are both optional: if both are
+ * provided, the text is drawn below the image. The text requires the
+ * {@link PieWidget.PieWidgetStyle#font font} of the style to be set.
+ * <br><br>
+ * After changing the fields of a SliceContent that is already in use, call
+ * {@link PieWidget#sliceContentsChanged()}.
+ *
+ * @see PieWidget#addSliceContent(SliceContent)
+ * @author Jérémi Grenier-Berthiaume (aka "payne")
+ */
+public class SliceContent {
+
+    /**
+     * <i>Optional.</i><br>
+     * The image drawn at the middle of the slice.
+     */
+    public Drawable drawable;
+
+    /**
+     * <i>Optional.</i><br>
+     * The text drawn at the middle of the slice (below the {@link #drawable},
+     * if there is one).
+     */
+    public CharSequence text;
+
+    /**
+     * <b>Defaults to white.</b><br>
+     * The color applied to both the {@link #drawable} and the {@link #text}.
+     */
+    public final Color tint = new Color(Color.WHITE);
+
+    /**
+     * <i>Optional.</i><br>
+     * The size at which the {@link #drawable} is drawn. If {@code 0}, the
+     * minimal size of the Drawable is used.
+     */
+    public float width, height;
+
+    /**
+     * <i>Optional.</i><br>
+     * Any object you want to associate with the slice (the item it
+     * represents, for example).
+     */
+    public Object userObject;
+
+
+    /* For internal use (optimization). */
+    private final GlyphLayout layout = new GlyphLayout();
+    private BitmapFont layoutFont;
+    private CharSequence layoutText;
+    private float layoutColor;
+
+
+
+
+    public SliceContent() {
+    }
+
+    /**
+     * @param drawable the image drawn at the middle of the slice.
+     */
+    public SliceContent(Drawable drawable) {
+        this.drawable = drawable;
+    }
+
+    /**
+     * @param text the text drawn at the middle of the slice.
+     */
+    public SliceContent(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * @param drawable the image drawn at the middle of the slice.
+     * @param text the text drawn below the image.
+     */
+    public SliceContent(Drawable drawable, CharSequence text) {
+        this.drawable = drawable;
+        this.text = text;
+    }
+
+
+
+
+    /**
+     * @return the width at which the {@link #drawable} is drawn.
+     */
+    public float getDrawableWidth() {
+        return width > 0 || drawable == null ? width : drawable.getMinWidth();
+    }
+
+    /**
+     * @return the height at which the {@link #drawable} is drawn.
+     */
+    public float getDrawableHeight() {
+        return height > 0 || drawable == null ? height : drawable.getMinHeight();
+    }
+
+    /**
+     * The layout of the {@link #text} is only computed again if the text, the
+     * font or the color changed since the last call.
+     *
+     * @param font the font used to draw the text.
+     * @param color the color of the text.
+     * @return the layout of the text, with each line centered horizontally
+     *         around {@code x = 0}.
+     */
+    GlyphLayout getLayout(BitmapFont font, Color color) {
+        float colorBits = color.toFloatBits();
+        if(font != layoutFont || text != layoutText || colorBits != layoutColor) {
+            layout.setText(font, text, color, 0, Align.center, false);
+            layoutFont = font;
+            layoutText = text;
+            layoutColor = colorBits;
+        }
+        return layout;
+    }
+
+    /** Forces the layout of the {@link #text} to be computed again. */
+    void invalidateLayout() {
+        layoutFont = null;
+    }
+}
@@ -0,0 +1,439 @@
+package com.payne.games.piemenu;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.InputListener;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Pool;
+
+
+/**
+ * A {@link PieMenu} whose slices display the items of a list that can be much
+ * longer than the amount of slices.<br>
+ * The items are provided by a {@link PieMenuAdapter}: only the Actors of the
+ * {@link #visibleSlices visible slices} exist, and scrolling (with
+ * {@link #scrollBy(int)}, {@link #nextPage()}, {@link #previousPage()} or the
+ * mouse wheel) simply binds those same Actors to other items. Actors are only
+ * created when more slices become visible, and the ones that are no longer
+ * needed are kept in a {@link Pool} for later use.<br>
+ * The memory used and the cost of {@link #layout()} and {@link #hit(float, float, boolean)}
+ * thus only depend on the amount of visible slices, not on the amount of items.
+ * <br><br>
+ * The indices used by the rest of the {@link PieMenu} API (such as
+ * {@link #getSelectedIndex()}) are indices of slices. Use {@link #getItemIndex(int)}
+ * (or {@link #getSelectedItemIndex()}) to find the item displayed by a slice.<br>
+ * The selection follows its item: scrolling moves it to the slice that now
+ * displays that item, without triggering any callback. While the selected
+ * item is scrolled out of view, {@link #getSelectedIndex()} is
+ * {@link #NO_SELECTION} but {@link #getSelectedItemIndex()} still returns it.<br>
+ * The mouse wheel only scrolls the menu if it has the
+ * {@link com.badlogic.gdx.scenes.scene2d.Stage#setScrollFocus(Actor) scroll focus}.
+ * <pre>
+ * {@code
+ * menu.setAdapter(new VirtualPieMenu.PieMenuAdapter() {
+ *     public int getItemCount() { return spells.size; }
+ *     public Actor createActor() { return new Image(); }
+ *     public void bindActor(Actor actor, int itemIndex) {
+ *         ((Image)actor).setDrawable(spells.get(itemIndex).icon);
+ *     }
+ * });
+ * }
+ * </pre>
+ *
+ * @author Jérémi Grenier-Berthiaume (aka "payne")
+ */
+public class VirtualPieMenu extends PieMenu {
+
+    /**
+     * Provides the items displayed by the {@link VirtualPieMenu}.
+     */
+    private PieMenuAdapter adapter;
+
+    /**
+     * The maximal amount of slices displayed at once.<br>
+     * <b>Defaults</b> to {@code 8}.
+     */
+    private int visibleSlices = 8;
+
+    /**
+     * Index of the item displayed by the first slice.
+     */
+    private int firstItemIndex = 0;
+
+    /**
+     * Determines whether or not scrolling past the last item brings back the
+     * first one (and vice versa).<br>
+     * <b>Defaults</b> to {@code false}.
+     */
+    private boolean wrapping = false;
+
+    /**
+     * Index of the selected item, which remains the same while scrolling.
+     */
+    private int selectedItemIndex = NO_SELECTION;
+
+
+    /* For internal use. */
+    private final Pool<Actor> actorPool = new Pool<Actor>() {
+        @Override
+        protected Actor newObject() {
+            return adapter.createActor();
+        }
+    };
+
+
+
+
+    @Override
+    protected void constructorsCommon() {
+        super.constructorsCommon();
+        addListener(new InputListener() {
+            @Override
+            public boolean scrolled(InputEvent event, float x, float y, int amount) {
+                scrollBy(amount);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * See {@link VirtualPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param style defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     */
+    public VirtualPieMenu(final TextureRegion whitePixel,
+                          PieMenuStyle style, float preferredRadius) {
+        super(whitePixel, style, preferredRadius);
+    }
+
+    /**
+     * See {@link VirtualPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param style defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     * @param innerRadiusPercent the {@link #innerRadiusPercent} that defines
+     *                           the percentage of the radius that is cut off,
+     *                           starting from the center of the widget.
+     */
+    public VirtualPieMenu(final TextureRegion whitePixel,
+                          PieMenuStyle style, float preferredRadius,
+                          float innerRadiusPercent) {
+        super(whitePixel, style, preferredRadius, innerRadiusPercent);
+    }
+
+    /**
+     * See {@link VirtualPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param skin defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     */
+    public VirtualPieMenu(final TextureRegion whitePixel,
+                          Skin skin, float preferredRadius) {
+        super(whitePixel, skin, preferredRadius);
+    }
+
+    /**
+     * See {@link VirtualPieMenu} for a description.
+     *
+     * @param whitePixel a 1x1 white pixel.
+     * @param skin defines the way the widget looks like.
+     * @param preferredRadius the {@link #preferredRadius} that defines the
+     *                        size of the widget.
+     * @param innerRadiusPercent the {@link #innerRadiusPercent} that defines
+     *                           the percentage of the radius that is cut off,
+     *                           starting from the center of the widget.
+     */
+    public VirtualPieMenu(final TextureRegion whitePixel,
+                          Skin skin, float preferredRadius,
+                          float innerRadiusPercent) {
+        super(whitePixel, skin, preferredRadius, innerRadiusPercent);
+    }
+
+
+
+
+    /**
+     * Must be called whenever the items provided by the {@link #adapter}
+     * change (in amount or in content).<br>
+     * Creates or releases the Actors so that there is one per visible slice,
+     * and binds each of them to the item it displays.
+     */
+    public void itemsChanged() {
+        int itemCount = getItemCount();
+        int slices = Math.min(visibleSlices, itemCount);
+        firstItemIndex = clampFirstItemIndex(firstItemIndex, itemCount, slices);
+
+        beginUpdate();
+        try {
+            while(getChildren().size > slices) {
+                Actor actor = getChildren().peek();
+                removeActor(actor);
+                adapter.unbindActor(actor);
+                actorPool.free(actor);
+            }
+            while(getChildren().size < slices)
+                addActor(actorPool.obtain());
+            bindActors();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Scrolls through the items.<br>
+     * The Actors of the slices are not replaced: they are bound to their new
+     * item.
+     *
+     * @param amount the amount of items by which the slices are shifted.
+     *               Positive values move towards the end of the list.
+     */
+    public void scrollBy(int amount) {
+        setFirstItemIndex(firstItemIndex + amount);
+    }
+
+    /**
+     * Scrolls forward by as many items as there are slices.
+     */
+    public void nextPage() {
+        scrollBy(getAmountOfChildren());
+    }
+
+    /**
+     * Scrolls backward by as many items as there are slices.
+     */
+    public void previousPage() {
+        scrollBy(-getAmountOfChildren());
+    }
+
+    /**
+     * @param sliceIndex the index of a slice.
+     * @return the index of the item displayed by that slice, or
+     *         {@link #NO_SELECTION} if it is not a valid slice index.
+     */
+    public int getItemIndex(int sliceIndex) {
+        if(!isValidIndex(sliceIndex))
+            return NO_SELECTION;
+        int itemIndex = firstItemIndex + sliceIndex;
+        return wrapping ? itemIndex % getItemCount() : itemIndex;
+    }
+
+    /**
+     * @param itemIndex the index of an item.
+     * @return the index of the slice displaying that item, or
+     *         {@link #NO_SELECTION} if it is not currently displayed.
+     */
+    public int getSliceIndex(int itemIndex) {
+        if(itemIndex < 0 || itemIndex >= getItemCount())
+            return NO_SELECTION;
+        int sliceIndex = itemIndex - firstItemIndex;
+        if(wrapping)
+            sliceIndex = ((sliceIndex % getItemCount()) + getItemCount()) % getItemCount();
+        return isValidIndex(sliceIndex) ? sliceIndex : NO_SELECTION;
+    }
+
+    /**
+     * @return the index of the selected item, or {@link #NO_SELECTION} if
+     *         there is none. The selected item remains the same while
+     *         scrolling, even if it is no longer displayed.
+     */
+    public int getSelectedItemIndex() {
+        return selectedItemIndex;
+    }
+
+    @Override
+    public void selectIndex(int newIndex) {
+        int oldSelectedItemIndex = selectedItemIndex;
+        selectedItemIndex = getItemIndex(mapIndex(newIndex)); // up-to-date for the listeners
+        super.selectIndex(newIndex);
+        if(getSelectedIndex() != mapIndex(newIndex))
+            selectedItemIndex = oldSelectedItemIndex; // the selection was cancelled
+    }
+
+    @Override
+    public void setSelectedIndex(int selectedIndex) {
+        super.setSelectedIndex(selectedIndex);
+        selectedItemIndex = getItemIndex(selectedIndex);
+    }
+
+    @Override
+    public void resetSelection() {
+        super.resetSelection();
+        selectedItemIndex = getItemIndex(getSelectedIndex());
+    }
+
+    /**
+     * @return the amount of items provided by the {@link #adapter}.
+     */
+    public int getItemCount() {
+        return adapter == null ? 0 : adapter.getItemCount();
+    }
+
+    private void bindActors() {
+        for(int i = 0; i < getChildren().size; i++)
+            adapter.bindActor(getChildren().get(i), getItemIndex(i));
+
+        /* The selection follows its item. */
+        if(selectedItemIndex >= getItemCount())
+            selectedItemIndex = NO_SELECTION;
+        int oldSelectedIndex = getSelectedIndex();
+        int newSelectedIndex = getSliceIndex(selectedItemIndex);
+        if(newSelectedIndex != oldSelectedIndex) {
+            super.setSelectedIndex(newSelectedIndex);
+            if(getHighlightedIndex() == oldSelectedIndex)
+                setHighlightedIndex(newSelectedIndex);
+        }
+        invalidate();
+    }
+
+    private int clampFirstItemIndex(int index, int itemCount, int slices) {
+        if(itemCount == 0)
+            return 0;
+        if(wrapping)
+            return ((index % itemCount) + itemCount) % itemCount;
+        return Math.max(0, Math.min(index, itemCount - slices));
+    }
+
+
+
+
+    /**
+     * Provides the items displayed by a {@link VirtualPieMenu}, and binds
+     * them to the Actors of the slices.
+     */
+    public abstract static class PieMenuAdapter {
+
+        /**
+         * @return the amount of items.
+         */
+        public abstract int getItemCount();
+
+        /**
+         * Called only when an additional slice is needed and there is no
+         * Actor left in the pool.
+         *
+         * @return a new Actor, not yet bound to any item.
+         */
+        public abstract Actor createActor();
+
+        /**
+         * Updates an Actor so that it displays the given item.
+         *
+         * @param actor an Actor previously obtained from {@link #createActor()}.
+         * @param itemIndex the index of the item to display.
+         */
+        public abstract void bindActor(Actor actor, int itemIndex);
+
+        /**
+         * Called when an Actor is removed from the menu and put back in the
+         * pool. Does nothing by default: override it to release the resources
+         * held by the Actor.
+         *
+         * @param actor the Actor no longer displaying any item.
+         */
+        public void unbindActor(Actor actor) {
+        }
+    }
+
+
+
+
+    /* ===== GETTERS/SETTERS ===== */
+
+    /**
+     * @return the {@link PieMenuAdapter} that provides the items.
+     */
+    public PieMenuAdapter getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * Sets the {@link PieMenuAdapter} that provides the items, and populates
+     * the slices accordingly. The Actors created by a previous adapter are
+     * discarded.
+     *
+     * @param adapter the new adapter. Cannot be {@code null}.
+     */
+    public void setAdapter(PieMenuAdapter adapter) {
+        if(adapter == null)
+            throw new IllegalArgumentException("adapter cannot be null.");
+        if(this.adapter != null) {
+            for(int i = 0; i < getChildren().size; i++)
+                this.adapter.unbindActor(getChildren().get(i));
+            clearChildren();
+            actorPool.clear();
+        }
+        this.adapter = adapter;
+        firstItemIndex = 0;
+        resetSelection();
+        itemsChanged();
+    }
+
+    /**
+     * @return the maximal amount of slices displayed at once.
+     */
+    public int getVisibleSlices() {
+        return visibleSlices;
+    }
+
+    /**
+     * @param visibleSlices the maximal amount of slices displayed at once.
+     *                      Must be at least {@code 1}.
+     */
+    public void setVisibleSlices(int visibleSlices) {
+        if(visibleSlices < 1)
+            throw new IllegalArgumentException("visibleSlices must be at least 1.");
+        this.visibleSlices = visibleSlices;
+        if(adapter != null)
+            itemsChanged();
+    }
+
+    /**
+     * @return the index of the item displayed by the first slice.
+     */
+    public int getFirstItemIndex() {
+        return firstItemIndex;
+    }
+
+    /**
+     * The value is clamped so that the slices never go past the last item
+     * (or wrapped around, if {@link #wrapping} is enabled).
+     *
+     * @param firstItemIndex the index of the item to be displayed by the
+     *                       first slice.
+     */
+    public void setFirstItemIndex(int firstItemIndex) {
+        if(adapter == null)
+            return;
+        firstItemIndex = clampFirstItemIndex(firstItemIndex, getItemCount(), getAmountOfChildren());
+        if(firstItemIndex == this.firstItemIndex)
+            return;
+        this.firstItemIndex = firstItemIndex;
+        bindActors();
+    }
+
+    /**
+     * @return {@code true} only if scrolling past the last item brings back
+     *         the first one (and vice versa).
+     */
+    public boolean isWrapping() {
+        return wrapping;
+    }
+
+    /**
+     * @param wrapping whether or not scrolling past the last item brings
+     *                 back the first one (and vice versa).
+     */
+    public void setWrapping(boolean wrapping) {
+        this.wrapping = wrapping;
+        if(adapter != null)
+            itemsChanged();
+    }
+}
@@ -20,6 +20,7 @@ import com.payne.games.piemenu.testMenu.exampleTests.KeyMap;
 import com.payne.games.piemenu.testMenu.exampleTests.NestedClickDrag;
 import com.payne.games.piemenu.testMenu.exampleTests.Permanent;
 import com.payne.games.piemenu.testMenu.exampleTests.RadialButtons;
+import com.payne.games.piemenu.testMenu.otherTests.CachedPathsCheck;
 import com.payne.games.piemenu.testMenu.otherTests.CenterOnActor;
 import com.payne.games.piemenu.testMenu.otherTests.Demonstration;
 import com.payne.games.piemenu.testMenu.otherTests.DifferentActorsWidget;
@@ -31,6 +32,7 @@ import com.payne.games.piemenu.testMenu.otherTests.MgsxTests;
 import com.payne.games.piemenu.testMenu.otherTests.RotatingFillParentWidget;
 import com.payne.games.piemenu.testMenu.otherTests.SelfContainedPieMenu;
 import com.payne.games.piemenu.testMenu.otherTests.ShapeDrawerLimit;
+import com.payne.games.piemenu.testMenu.otherTests.SliceContentsWidget;
 import com.payne.games.piemenu.testMenu.otherTests.TableWidgets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,6 +45,7 @@ public class MainScreen extends BaseScreen {
             Arrays.asList(
                     Demonstration.class,
 
+                    CachedPathsCheck.class,
                     CenterOnActor.class,
                     DifferentActorsWidget.class,
                     HitInfiniteMiddle.class,
@@ -53,6 +56,7 @@ public class MainScreen extends BaseScreen {
                     RotatingFillParentWidget.class,
                     SelfContainedPieMenu.class,
                     ShapeDrawerLimit.class,
+                    SliceContentsWidget.class,
                     TableWidgets.class,
 
                     ButtonBound.class,
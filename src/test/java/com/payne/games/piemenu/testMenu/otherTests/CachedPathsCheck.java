@@ -0,0 +1,431 @@
+package com.payne.games.piemenu.testMenu.otherTests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.payne.games.piemenu.PieMenu;
+import com.payne.games.piemenu.VirtualPieMenu;
+import com.payne.games.piemenu.testMenu.core.BaseScreen;
+import com.payne.games.piemenu.testMenu.core.TestsMenu;
+
+import java.util.Random;
+
+/**
+ * Compares the cached and incremental paths of the library with the plain
+ * ones they replace: every round (one frame) randomly modifies identical
+ * menus and counts the positions where they disagree.<br>
+ * The menu on the left uses the defaults (slice boundaries, incremental
+ * layout, pre-filtered {@code hit()}, cached pointer resolutions): its slices
+ * are compared with the ones found from {@code Math.atan2()} and the weights,
+ * and its children with the ones of the menu on the right, which uses
+ * {@code setIncrementalLayout(false)}.<br>
+ * The cached (and shared) shapes of a third menu, which isn't displayed, are
+ * compared with the ones tessellated from scratch by a new menu: giving a
+ * weight to every slice keeps the new menu from reusing any shapes.
+ */
+public class CachedPathsCheck extends BaseScreen {
+    private static final int ROUNDS = 200;
+    private static final int POINTS_PER_ROUND = 200;
+
+    /* Positions closer than that to a boundary are ambiguous and skipped. */
+    private static final float ANGLE_TOLERANCE = .05f;
+    private static final float RADIUS_TOLERANCE = .5f;
+    private static final float VERTEX_TOLERANCE = .01f;
+    private static final int VERTEX_SIZE = 5; // x, y, color, u, v
+
+    private PieMenu menu;
+    private PieMenu reference;
+    private VirtualPieMenu virtualMenu;
+    private PieMenu shapes;
+    private PieMenu.PieMenuStyle style;
+    private Array<PieMenu> mirrored = new Array<>();
+    private RecordingBatch recorder;
+    private Label results;
+    private Random random = new Random(42);
+    private Vector2 vector2 = new Vector2();
+
+    public CachedPathsCheck(TestsMenu game) {
+        super(game);
+    }
+
+    @Override
+    public void show() {
+        setScreenColor(.2f, .2f, .2f, 1);
+
+        /* Adding a Table. */
+        Table root = new Table(game.skin);
+        root.setFillParent(true);
+        game.stage.addActor(root);
+
+        /* ====================================================================\
+        |                  HERE BEGINS THE MORE SPECIFIC CODE                  |
+        \==================================================================== */
+
+        /* Setting up the two menus that are compared. */
+        style = new PieMenu.PieMenuStyle();
+        style.backgroundColor = new Color(1, 1, 1, .3f);
+        style.sliceColor = new Color(.33f, .33f, .33f, .6f);
+        style.alternateSliceColor = new Color(.2f, .2f, .2f, .6f);
+        style.separatorWidth = 2;
+        style.separatorColor = Color.BLACK;
+        style.hoverColor = new Color(.4f, .4f, .8f, 1);
+        style.selectedColor = new Color(.8f, .4f, .4f, 1);
+        style.circumferenceWidth = 2;
+        style.circumferenceColor = Color.WHITE;
+        menu = new PieMenu(game.skin.getRegion("white"), style, 130, .25f);
+        reference = new PieMenu(game.skin.getRegion("white"), style, 130, .25f);
+        reference.setIncrementalLayout(false);
+        for (int i = 0; i < 8; i++) {
+            menu.addActor(newChild());
+            reference.addActor(newChild());
+        }
+        menu.setOrigin(Align.center);
+        reference.setOrigin(Align.center);
+
+        /* Only the shapes of that one are drawn (into the recorder). */
+        shapes = new PieMenu(game.skin.getRegion("white"), style, 130, .25f);
+        for (int i = 0; i < 8; i++)
+            shapes.addActor(new Actor());
+        shapes.setBounds(100, 50, shapes.getPrefWidth(), shapes.getPrefHeight());
+        shapes.setOrigin(Align.center);
+        recorder = new RecordingBatch();
+        mirrored.addAll(menu, reference, shapes);
+
+        /* The VirtualPieMenu displays many more items than it has slices. */
+        virtualMenu = new VirtualPieMenu(game.skin.getRegion("white"), style, 100, .25f);
+        virtualMenu.setVisibleSlices(6);
+        virtualMenu.setAdapter(new VirtualPieMenu.PieMenuAdapter() {
+            @Override
+            public int getItemCount() {
+                return 50;
+            }
+
+            @Override
+            public Actor createActor() {
+                return new Label("", game.skin);
+            }
+
+            @Override
+            public void bindActor(Actor actor, int itemIndex) {
+                ((Label)actor).setText(Integer.toString(itemIndex));
+            }
+        });
+
+        /* Including the Widgets in the Stage. */
+        results = new Label("Press C to run the checks", game.skin);
+        root.add(menu).pad(10);
+        root.add(reference).pad(10);
+        root.add(virtualMenu).pad(10);
+        root.row();
+        root.add(results).colspan(3);
+        root.row();
+        root.add("Press C to run " + ROUNDS + " more rounds of random modifications\n" +
+                "The mismatches should all be 0").colspan(3);
+    }
+
+    private Actor newChild() {
+        Image image = new Image(game.skin.getRegion("white"));
+        image.setSize(16, 16);
+        image.setOrigin(8, 8);
+        return image;
+    }
+
+    @Override
+    public void updateInputPost(float delta) {
+        if (Gdx.input.isKeyJustPressed(Keys.C))
+            runChecks();
+    }
+
+    private void runChecks() {
+        int sliceChecks = 0, sliceMismatches = 0;
+        int hitChecks = 0, hitMismatches = 0;
+        int layoutChecks = 0, layoutMismatches = 0;
+        int virtualChecks = 0, virtualMismatches = 0;
+        int shapeChecks = 0, shapeMismatches = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            modify();
+            game.stage.act(0);
+            menu.validate();
+            reference.validate();
+
+            /* Incremental layout against the full one. */
+            for (int i = 0; i < menu.getChildren().size; i++) {
+                layoutChecks++;
+                if (!samePlacement(menu.getChild(i), reference.getChild(i)))
+                    layoutMismatches++;
+            }
+
+            for (int i = 0; i < POINTS_PER_ROUND; i++) {
+                float angle = random.nextFloat() * 360;
+                float distance = random.nextFloat() * getRadius() * 1.1f;
+
+                /* Slice boundaries and pointer resolutions against the exact angle. */
+                if (!isAmbiguous(angle, distance)) {
+                    int expected = findExactIndex(angle, distance);
+                    toStage(angle, distance);
+                    sliceChecks++;
+                    if (validOrNone(menu.findChildIndexAtStage(vector2.x, vector2.y)) != expected)
+                        sliceMismatches++;
+                    if (validOrNone(menu.resolvePointer(0, vector2.x, vector2.y).getIndex()) != expected)
+                        sliceMismatches++;
+                }
+
+                /* Pre-filtered hit() against iterating over every child. */
+                float x = random.nextFloat() * menu.getWidth();
+                float y = random.nextFloat() * menu.getHeight();
+                Actor expected = hitChildren(x, y);
+                Actor hit = menu.hit(x, y, true);
+                if (expected != null || (hit != null && hit != menu)) {
+                    hitChecks++;
+                    if (hit != expected)
+                        hitMismatches++;
+                }
+            }
+
+            /* The cached shapes against the ones tessellated from scratch. */
+            shapeChecks++;
+            if (!sameVertices(record(shapes), record(rebuild(shapes))))
+                shapeMismatches++;
+
+            /* The selection of the VirtualPieMenu follows its item. */
+            if (random.nextInt(4) == 0)
+                virtualMenu.selectIndex(random.nextInt(virtualMenu.getAmountOfChildren()));
+            virtualMenu.scrollBy(random.nextInt(9) - 4);
+            int selectedItem = virtualMenu.getSelectedItemIndex();
+            if (selectedItem != PieMenu.NO_SELECTION) {
+                virtualChecks++;
+                int slice = virtualMenu.getSliceIndex(selectedItem);
+                if (virtualMenu.getSelectedIndex() != slice)
+                    virtualMismatches++;
+                else if (slice != PieMenu.NO_SELECTION
+                        && !((Label)virtualMenu.getChild(slice)).textEquals(Integer.toString(selectedItem)))
+                    virtualMismatches++;
+            }
+        }
+        menu.resetHover();
+        menu.resetSelection();
+
+        results.setText(
+                "Slice lookups: " + sliceChecks + " checks, " + sliceMismatches + " mismatches\n" +
+                "hit(): " + hitChecks + " checks, " + hitMismatches + " mismatches\n" +
+                "Layout: " + layoutChecks + " checks, " + layoutMismatches + " mismatches\n" +
+                "VirtualPieMenu selection: " + virtualChecks + " checks, " + virtualMismatches + " mismatches\n" +
+                "Cached shapes: " + shapeChecks + " checks, " + shapeMismatches + " mismatches");
+        results.setColor(sliceMismatches + hitMismatches + layoutMismatches + virtualMismatches + shapeMismatches == 0
+                ? Color.GREEN : Color.RED);
+    }
+
+    /**
+     * Applies the same random modification to all the compared menus.
+     */
+    private void modify() {
+        int change = random.nextInt(11);
+        int index = random.nextInt(menu.getAmountOfChildren());
+        float value = random.nextFloat();
+        for (PieMenu pie : mirrored)
+            modify(pie, change, index, value);
+    }
+
+    private void modify(PieMenu pie, int change, int index, float value) {
+        switch (change) {
+            case 0:
+                pie.setStartDegreesOffset(value * 360);
+                break;
+            case 1:
+                pie.setTotalDegreesDrawn(90 + value * 270);
+                break;
+            case 2:
+                pie.setInnerRadiusPercent(value * .6f);
+                break;
+            case 3:
+                pie.setWeight(pie.getChild(index), .5f + value * 3);
+                break;
+            case 4:
+                if (pie.getAmountOfChildren() < 20)
+                    pie.addActor(pie == shapes ? new Actor() : newChild());
+                break;
+            case 5:
+                if (pie.getAmountOfChildren() > 2)
+                    pie.removeActor(pie.getChild(index));
+                break;
+            case 6:
+                pie.setRotation(value * 360);
+                break;
+            case 7:
+                pie.getChild(index).setScale(.5f + value * 2);
+                break;
+            case 8:
+                pie.setHoveredIndex(value < .2f ? PieMenu.NO_SELECTION : index);
+                break;
+            case 9:
+                pie.setSelectedIndex(index);
+                pie.setHighlightedIndex(index);
+                break;
+            case 10:
+                pie.setGlobalAlphaMultiplier(.2f + value * .8f);
+                break;
+        }
+    }
+
+    private boolean samePlacement(Actor actor, Actor expected) {
+        return MathUtils.isEqual(actor.getX(), expected.getX(), .01f)
+                && MathUtils.isEqual(actor.getY(), expected.getY(), .01f)
+                && MathUtils.isEqual(actor.getWidth(), expected.getWidth(), .01f)
+                && MathUtils.isEqual(actor.getHeight(), expected.getHeight(), .01f)
+                && actor.isVisible() == expected.isVisible();
+    }
+
+    /**
+     * @return {@code true} if the position is right on one of the radii, or
+     *         on the boundary in between two slices.
+     */
+    private boolean isAmbiguous(float angle, float distance) {
+        if (Math.abs(distance - getRadius()) < RADIUS_TOLERANCE
+                || Math.abs(distance - menu.getInnerRadiusLength()) < RADIUS_TOLERANCE)
+            return true;
+        int index = findExactIndex(angle, distance);
+        return findExactIndex(angle - ANGLE_TOLERANCE, distance) != index
+                || findExactIndex(angle + ANGLE_TOLERANCE, distance) != index;
+    }
+
+    /**
+     * The slice at a position, found without any of the caches.
+     *
+     * @param angle angle of the position, relative to the center of the menu.
+     * @param distance distance of the position from the center of the menu.
+     * @return the index of the slice, or {@link PieMenu#NO_SELECTION}.
+     */
+    private int findExactIndex(float angle, float distance) {
+        if (distance < menu.getInnerRadiusLength() || distance > getRadius())
+            return PieMenu.NO_SELECTION;
+
+        /* The angle goes through Math.atan2() just like a position would. */
+        float x = distance * MathUtils.cosDeg(angle);
+        float y = distance * MathUtils.sinDeg(angle);
+        float degrees = menu.normalizeAngle((float)Math.toDegrees(Math.atan2(y, x)) - menu.getStartDegreesOffset());
+        if (degrees >= menu.getTotalDegreesDrawn())
+            return PieMenu.NO_SELECTION;
+
+        float totalWeight = 0;
+        for (Actor child : menu.getChildren())
+            totalWeight += menu.getWeight(child);
+        float weight = degrees / menu.getTotalDegreesDrawn() * totalWeight;
+        for (int i = 0; i < menu.getAmountOfChildren(); i++) {
+            weight -= menu.getWeight(menu.getChild(i));
+            if (weight < 0)
+                return i;
+        }
+        return PieMenu.NO_SELECTION;
+    }
+
+    private int validOrNone(int index) {
+        return menu.isValidIndex(index) ? index : PieMenu.NO_SELECTION;
+    }
+
+    private float getRadius() {
+        return Math.min(menu.getWidth(), menu.getHeight())/2;
+    }
+
+    /**
+     * Converts a position relative to the center of the menu into Stage
+     * coordinates, stored in {@link #vector2}.
+     */
+    private void toStage(float angle, float distance) {
+        vector2.set(menu.getWidth()/2 + distance * MathUtils.cosDeg(angle),
+                menu.getHeight()/2 + distance * MathUtils.sinDeg(angle));
+        menu.localToStageCoordinates(vector2);
+    }
+
+    /**
+     * @return a new menu identical to the given one, whose slices are all
+     *         weighted so that its shapes are tessellated from scratch.
+     */
+    private PieMenu rebuild(PieMenu pie) {
+        PieMenu copy = new PieMenu(game.skin.getRegion("white"), style, 130, pie.getInnerRadiusPercent(),
+                pie.getStartDegreesOffset(), pie.getTotalDegreesDrawn());
+        for (Actor child : pie.getChildren()) {
+            Actor actor = new Actor();
+            copy.addActor(actor);
+            copy.setWeight(actor, pie.getWeight(child));
+        }
+        copy.setBounds(pie.getX(), pie.getY(), pie.getWidth(), pie.getHeight());
+        copy.setOrigin(pie.getOriginX(), pie.getOriginY());
+        copy.setRotation(pie.getRotation());
+        copy.setSelectedIndex(pie.getSelectedIndex());
+        copy.setHighlightedIndex(pie.getHighlightedIndex());
+        copy.setHoveredIndex(pie.getHoveredIndex());
+        copy.setGlobalAlphaMultiplier(pie.getGlobalAlphaMultiplier());
+        return copy;
+    }
+
+    /**
+     * @return the vertices sent to the Batch by the shapes of the menu.
+     */
+    private float[] record(PieMenu pie) {
+        recorder.vertices.clear();
+        recorder.begin();
+        pie.draw(recorder, 1);
+        recorder.end();
+        return recorder.vertices.toArray();
+    }
+
+    private boolean sameVertices(float[] vertices, float[] expected) {
+        if (vertices.length != expected.length)
+            return false;
+        for (int i = 0; i < vertices.length; i++) {
+            if (i % VERTEX_SIZE == Batch.C1
+                    ? Float.floatToIntBits(vertices[i]) != Float.floatToIntBits(expected[i])
+                    : !MathUtils.isEqual(vertices[i], expected[i], VERTEX_TOLERANCE))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * The original {@code hit()} of the children: every one of them is tested.
+     */
+    private Actor hitChildren(float x, float y) {
+        for (Actor child : menu.getChildren()) {
+            if (child.getTouchable() == Touchable.disabled)
+                continue;
+            child.parentToLocalCoordinates(vector2.set(x, y));
+            Actor hit = child.hit(vector2.x, vector2.y, true);
+            if (hit != null)
+                return hit;
+        }
+        return null;
+    }
+
+    @Override
+    public void dispose() {
+        recorder.dispose();
+        super.dispose();
+    }
+
+    /**
+     * Keeps the vertices sent as-is to the Batch (by the cached shapes)
+     * instead of drawing them.
+     */
+    private static class RecordingBatch extends SpriteBatch {
+        private final FloatArray vertices = new FloatArray();
+
+        @Override
+        public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+            vertices.addAll(spriteVertices, offset, count);
+        }
+    }
+}
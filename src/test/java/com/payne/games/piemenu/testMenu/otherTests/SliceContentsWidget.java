@@ -0,0 +1,64 @@
+package com.payne.games.piemenu.testMenu.otherTests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.payne.games.piemenu.PieWidget;
+import com.payne.games.piemenu.SliceContent;
+import com.payne.games.piemenu.testMenu.core.BaseScreen;
+import com.payne.games.piemenu.testMenu.core.TestsMenu;
+
+public class SliceContentsWidget extends BaseScreen {
+    private PieWidget widget;
+
+    public SliceContentsWidget(TestsMenu game) {
+        super(game);
+    }
+
+    @Override
+    public void show() {
+        setScreenColor(.2f, .2f, .8f, 1);
+
+        /* Adding a Table. */
+        Table root = new Table(game.skin);
+        root.setFillParent(true);
+        game.stage.addActor(root);
+
+        /* ====================================================================\
+        |                  HERE BEGINS THE MORE SPECIFIC CODE                  |
+        \==================================================================== */
+
+        /* Setting up and creating the widget. */
+        PieWidget.PieWidgetStyle style = new PieWidget.PieWidgetStyle();
+        style.backgroundColor = new Color(.4f, .2f, .6f, .6f);
+        style.sliceColor = new Color(1, 1, 1, .35f);
+        style.alternateSliceColor = new Color(1, 1, 1, .2f);
+        style.separatorWidth = 2;
+        style.separatorColor = Color.BLACK;
+        style.font = game.skin.getFont("font");
+        widget = new PieWidget(game.skin.getRegion("white"), style, 150);
+
+        /* Mixing children and slice contents: there are fewer slices than children. */
+        for (int i = 0; i < 3; i++)
+            widget.addSliceContent(new SliceContent("content " + i));
+        for (int i = 0; i < 5; i++)
+            widget.addActor(new Label("child " + i, game.skin));
+        widget.setWeight(widget.getChild(0), 2);
+
+        /* Including the Widget in the Stage. */
+        root.add(widget);
+        root.row();
+        root.add("Press A to add a slice content, R to remove one\n" +
+                "Children without a slice are hidden");
+    }
+
+    @Override
+    public void updateInputPost(float delta) {
+        if (Gdx.input.isKeyJustPressed(Keys.A))
+            widget.addSliceContent(new SliceContent("content " + widget.getSliceContents().size));
+        if (Gdx.input.isKeyJustPressed(Keys.R) && widget.getSliceContents().size > 0)
+            widget.removeSliceContent(widget.getSliceContents().peek());
+    }
+}